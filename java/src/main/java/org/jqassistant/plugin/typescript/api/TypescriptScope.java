@@ -7,7 +7,17 @@ import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
 
 public enum TypescriptScope implements Scope {
 
-    PROJECT;
+    PROJECT,
+
+    /**
+     * Report with one JSON record per line, see the {@code ndjson} report format of the LCE tool.
+     */
+    PROJECT_NDJSON,
+
+    /**
+     * Directory containing one report per project, see the {@code --shards} option of the LCE tool.
+     */
+    PROJECT_SHARDS;
 
     @Override
     public String getPrefix() {
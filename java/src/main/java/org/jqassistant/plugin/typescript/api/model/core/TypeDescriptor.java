@@ -3,16 +3,31 @@ package org.jqassistant.plugin.typescript.api.model.core;
 import com.buschmais.xo.neo4j.api.annotation.Label;
 import com.buschmais.xo.neo4j.api.annotation.Relation;
 
+import java.util.List;
+
+/**
+ * A type. A type node may be shared by several parents (see {@code typescript.mapping.shared-types}):
+ * the single-valued parent accessors fail for such nodes, the list-valued ones return all parents.
+ */
 @Label("Type")
 public interface TypeDescriptor extends TypeScriptDescriptor {
 
     @Relation.Incoming
     TypeTupleContainsDescriptor getParentTuple();
 
+    @Relation.Incoming
+    List<TypeTupleContainsDescriptor> getParentTuples();
+
     @Relation.Incoming
     TypeDeclaredHasTypeArgumentDescriptor getParentDeclaredType();
 
+    @Relation.Incoming
+    List<TypeDeclaredHasTypeArgumentDescriptor> getParentDeclaredTypes();
+
     @Relation.Incoming
     ValueCallHasTypeArgumentDescriptor getParentValueCall();
 
+    @Relation.Incoming
+    List<ValueCallHasTypeArgumentDescriptor> getParentValueCalls();
+
 }
@@ -12,4 +12,41 @@ public interface TypeScriptScanDescriptor extends TypeScriptDescriptor, FileDesc
     @Relation("CONTAINS_PROJECT")
     List<ProjectDescriptor> getProjects();
 
+    /**
+     * SHA-256 digest (hex encoded) of the uncompressed report content.
+     */
+    String getDigest();
+    void setDigest(String digest);
+
+    /**
+     * Size of the report file in bytes (as stored, i.e. compressed if the report is compressed).
+     */
+    Long getReportSize();
+    void setReportSize(Long reportSize);
+
+    /**
+     * Last modification time of the report file, in milliseconds since the epoch.
+     */
+    Long getReportLastModified();
+    void setReportLastModified(Long reportLastModified);
+
+    /**
+     * Names of the report shards that could not be read (completely), {@code null} if all shards have been read.
+     */
+    String[] getFailedShards();
+    void setFailedShards(String[] failedShards);
+
+    /**
+     * Number of times the transaction has been committed while the report was mapped (see {@code typescript.mapping.commit-interval}),
+     * {@code null} if the report has been mapped within a single transaction.
+     */
+    Integer getCommits();
+    void setCommits(Integer commits);
+
+    /**
+     * Time needed to read and map the report, in milliseconds.
+     */
+    Long getMappingTime();
+    void setMappingTime(Long mappingTime);
+
 }
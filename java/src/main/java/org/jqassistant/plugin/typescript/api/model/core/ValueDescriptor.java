@@ -3,6 +3,12 @@ package org.jqassistant.plugin.typescript.api.model.core;
 import com.buschmais.xo.neo4j.api.annotation.Label;
 import com.buschmais.xo.neo4j.api.annotation.Relation;
 
+import java.util.List;
+
+/**
+ * A value. A literal node may be shared by several parents (see {@code typescript.mapping.shared-literals}):
+ * the single-valued parent accessors fail for such nodes, the list-valued ones return all parents.
+ */
 @Label("Value")
 public interface ValueDescriptor extends TypeScriptDescriptor {
 
@@ -14,7 +20,13 @@ public interface ValueDescriptor extends TypeScriptDescriptor {
     @Relation.Incoming
     ValueArrayContainsDescriptor getParentArray();
 
+    @Relation.Incoming
+    List<ValueArrayContainsDescriptor> getParentArrays();
+
     @Relation.Incoming
     ValueCallHasArgumentDescriptor getParentCall();
 
+    @Relation.Incoming
+    List<ValueCallHasArgumentDescriptor> getParentCalls();
+
 }
@@ -0,0 +1,109 @@
+package org.jqassistant.plugin.typescript.impl;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Creates the indexes backing the lookups of the scanner plugins and of typical TypeScript rules.
+ * <p>
+ * The indexes are created once per store while the scanner plugins are configured, i.e. before the scanner opens a transaction
+ * ({@code CREATE INDEX ... IF NOT EXISTS}, so existing indexes are kept). Schema changes are not allowed in a transaction that has written data,
+ * so they are done in a transaction of their own. A transaction opened by someone else is never touched: if one is active, the indexes are not created.
+ */
+@Slf4j
+public class StoreIndexes {
+
+    /**
+     * Labels of declarations, all of them have a local FQN.
+     */
+    private static final List<String> DECLARATION_LABELS = List.of(
+        "Module", "Class", "Interface", "TypeAlias", "Enum", "EnumMember", "Function", "Variable",
+        "Method", "Constructor", "Property", "AccessorProperty"
+    );
+
+    /**
+     * Labels of declarations that have a name.
+     */
+    private static final List<String> NAMED_DECLARATION_LABELS = List.of(
+        "Class", "Interface", "TypeAlias", "Enum", "EnumMember", "Function", "Variable",
+        "Method", "Property", "AccessorProperty"
+    );
+
+    private static final List<Index> INDEXES = createIndexes();
+
+    /**
+     * Name of the store cache which marks the store as provisioned, so that the indexes are checked once per store lifecycle.
+     */
+    private static final String PROVISIONED_CACHE = StoreIndexes.class.getName();
+
+    private StoreIndexes() {
+    }
+
+    private static List<Index> createIndexes() {
+        List<Index> indexes = new ArrayList<>();
+        indexes.add(new Index("Local", "absoluteFileName", "files and directories resolved by the LocalFileResolver"));
+        indexes.add(new Index("TS", "globalFqn", "concepts by global FQN"));
+        indexes.add(new Index("Scan", "reportSize", "reports that have already been scanned"));
+        for (String label : DECLARATION_LABELS) {
+            indexes.add(new Index(label, "localFqn", "declarations by local FQN"));
+        }
+        for (String label : NAMED_DECLARATION_LABELS) {
+            indexes.add(new Index(label, "name", "declarations by name"));
+        }
+        return Collections.unmodifiableList(indexes);
+    }
+
+    /**
+     * Creates the indexes, unless they have already been created for the store or a transaction is active.
+     */
+    public static void provision(Store store) {
+        Cache<String, Boolean> provisioned = store.getCache(PROVISIONED_CACHE);
+        if (provisioned.getIfPresent(PROVISIONED_CACHE) != null) {
+            return;
+        }
+        if (store.hasActiveTransaction()) {
+            log.debug("Not creating indexes for TypeScript lookups, as a transaction is active");
+            return;
+        }
+        store.beginTransaction();
+        try {
+            for (Index index : INDEXES) {
+                store.executeQuery("CREATE INDEX " + index.getName() + " IF NOT EXISTS FOR (n:" + index.label + ") ON (n." + index.property + ")");
+                log.debug("Index on :{}({}) backs the lookup of {}", index.label, index.property, index.lookup);
+            }
+            store.commitTransaction();
+            provisioned.put(PROVISIONED_CACHE, true);
+            log.info("Provisioned {} indexes for TypeScript lookups: files by absolute file name, concepts by global FQN, scans by report size, " +
+                "declarations by local FQN and name", INDEXES.size());
+        } catch (RuntimeException e) {
+            store.rollbackTransaction();
+            log.warn("Cannot create indexes for TypeScript lookups, they will be done by label scans", e);
+        }
+    }
+
+    private static class Index {
+
+        private final String label;
+
+        private final String property;
+
+        private final String lookup;
+
+        private Index(String label, String property, String lookup) {
+            this.label = label;
+            this.property = property;
+            this.lookup = lookup;
+        }
+
+        private String getName() {
+            return "typescript_" + label.toLowerCase(Locale.ROOT) + "_" + property.toLowerCase(Locale.ROOT);
+        }
+    }
+
+}
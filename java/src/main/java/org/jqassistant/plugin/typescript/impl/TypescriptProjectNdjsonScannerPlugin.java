@@ -0,0 +1,135 @@
+package org.jqassistant.plugin.typescript.impl;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
+import com.buschmais.jqassistant.core.scanner.api.ScannerPlugin;
+import com.buschmais.jqassistant.core.scanner.api.Scope;
+import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
+import com.buschmais.jqassistant.plugin.common.api.scanner.AbstractScannerPlugin;
+import com.buschmais.jqassistant.plugin.common.api.scanner.filesystem.FileResource;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.mapper.core.MappingOptions;
+import org.jqassistant.plugin.typescript.impl.reader.IndexedNdjsonReportReader;
+import org.jqassistant.plugin.typescript.impl.reader.MappedNdjsonReportReader;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader;
+import org.jqassistant.plugin.typescript.impl.reader.ReportDigest;
+import org.jqassistant.plugin.typescript.impl.reader.ReportIndex;
+import org.jqassistant.plugin.typescript.impl.reader.ReportPipeline;
+import org.jqassistant.plugin.typescript.impl.reader.ReportStream;
+import org.jqassistant.plugin.typescript.impl.reader.ScanProfile;
+import org.jqassistant.plugin.typescript.impl.reader.StringPool;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Scans newline-delimited reports (one JSON record per concept) using the {@link TypescriptScope#PROJECT_NDJSON} scope.
+ */
+@Slf4j
+@ScannerPlugin.Requires(FileDescriptor.class)
+public class TypescriptProjectNdjsonScannerPlugin extends AbstractScannerPlugin<FileResource, TypeScriptScanDescriptor> {
+
+    private ObjectMapper objectMapper;
+
+    private ScanProfile profile;
+
+    private boolean lazyValues;
+
+    private int parallelism;
+
+    private boolean pipeline;
+
+    private List<String> modules;
+
+    private StringPool stringPool;
+
+    private MappingOptions mappingOptions;
+
+    @Override
+    public void initialize() {
+        this.stringPool = new StringPool();
+        this.mappingOptions = new MappingOptions();
+        this.parallelism = 1;
+        this.pipeline = false;
+        this.modules = List.of();
+        initializeObjectMapper(ScanProfile.FULL, false);
+    }
+
+    @Override
+    protected void configure() {
+        StoreIndexes.provision(getScannerContext().getStore());
+        this.parallelism = Integer.parseInt(getStringProperty(TypescriptProjectScannerPlugin.PROPERTY_PARALLELISM, "1"));
+        this.pipeline = getBooleanProperty(TypescriptProjectScannerPlugin.PROPERTY_PIPELINE, false);
+        this.mappingOptions = TypescriptProjectScannerPlugin.createMappingOptions(getProperties());
+        this.modules = Arrays.stream(getStringProperty(TypescriptProjectScannerPlugin.PROPERTY_MODULES, "").split(","))
+            .map(String::trim)
+            .filter(module -> !module.isEmpty())
+            .collect(Collectors.toList());
+        ScanProfile configuredProfile = ScanProfile.byName(getStringProperty(TypescriptProjectScannerPlugin.PROPERTY_PROFILE, ScanProfile.FULL.name()));
+        // records are only held before they are mapped if read by a pipeline or in parallel
+        boolean configuredLazyValues = getBooleanProperty(TypescriptProjectScannerPlugin.PROPERTY_LAZY_VALUES, false) && (pipeline || parallelism > 1);
+        if (configuredProfile != profile || configuredLazyValues != lazyValues) {
+            initializeObjectMapper(configuredProfile, configuredLazyValues);
+        }
+    }
+
+    private void initializeObjectMapper(ScanProfile profile, boolean lazyValues) {
+        this.profile = profile;
+        this.lazyValues = lazyValues;
+        this.objectMapper = TypescriptProjectScannerPlugin.createObjectMapper(new JsonFactory(), profile, lazyValues, stringPool);
+    }
+
+    @Override
+    public boolean accepts(FileResource fileResource, String path, Scope scope) {
+        String reportPath = ReportStream.stripCompressionExtension(path);
+        return TypescriptScope.PROJECT_NDJSON.equals(scope) && (reportPath.endsWith(".ndjson") || reportPath.endsWith(".jsonl"));
+    }
+
+    @Override
+    public TypeScriptScanDescriptor scan(FileResource fileResource, String path, Scope scope, Scanner scanner) throws IOException {
+        TypeScriptScanDescriptor unchanged = ReportDigest.findUnchanged(fileResource, path, scanner);
+        if (unchanged != null) {
+            return unchanged;
+        }
+        ScannerContext context = scanner.getContext();
+        context.push(MappingOptions.class, mappingOptions);
+        try {
+            return map(fileResource, path, scanner);
+        } finally {
+            context.pop(MappingOptions.class);
+        }
+    }
+
+    private TypeScriptScanDescriptor map(FileResource fileResource, String path, Scanner scanner) throws IOException {
+        if (!modules.isEmpty()) {
+            ReportIndex index = ReportStream.isCompressed(path) ? null : ReportIndex.load(fileResource.getFile(), objectMapper);
+            if (index != null) {
+                // no digest, as only parts of the report are mapped
+                return new IndexedNdjsonReportReader(objectMapper, profile).read(fileResource.getFile().toPath(), index, modules, scanner);
+            }
+            log.warn("No valid index found for report {}, reading all modules", path);
+        }
+        long start = System.nanoTime();
+        if (parallelism > 1 && !ReportStream.isCompressed(path)) {
+            MappedNdjsonReportReader reader = new MappedNdjsonReportReader(objectMapper, profile, parallelism);
+            TypeScriptScanDescriptor result = reader.read(fileResource.getFile().toPath(), scanner);
+            return ReportDigest.record(result, fileResource, reader.getDigest(), start);
+        }
+        try (var stream = ReportStream.open(fileResource, path); var parser = objectMapper.createParser(stream)) {
+            NdjsonReportReader reader = new NdjsonReportReader(objectMapper, profile);
+            TypeScriptScanDescriptor result;
+            if (pipeline) {
+                result = new ReportPipeline().read(sink -> reader.read(parser, sink), false, scanner);
+            } else {
+                result = reader.read(parser, scanner);
+            }
+            return ReportDigest.record(result, fileResource, stream.digest(), start);
+        }
+    }
+}
@@ -1,45 +1,237 @@
 package org.jqassistant.plugin.typescript.impl;
 
 import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
 import com.buschmais.jqassistant.core.scanner.api.ScannerPlugin;
 import com.buschmais.jqassistant.core.scanner.api.Scope;
 import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
 import com.buschmais.jqassistant.plugin.common.api.scanner.AbstractScannerPlugin;
 import com.buschmais.jqassistant.plugin.common.api.scanner.filesystem.FileResource;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.jqassistant.plugin.typescript.api.TypescriptScope;
 import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.filesystem.LocalFileResolver;
+import org.jqassistant.plugin.typescript.impl.mapper.core.BulkTreeWriter;
+import org.jqassistant.plugin.typescript.impl.mapper.core.MappingOptions;
+import org.jqassistant.plugin.typescript.impl.mapper.core.SharedLiterals;
+import org.jqassistant.plugin.typescript.impl.mapper.core.SharedTypes;
 import org.jqassistant.plugin.typescript.impl.mapper.core.TypeScriptScanMapper;
 import org.jqassistant.plugin.typescript.impl.model.core.Project;
+import org.jqassistant.plugin.typescript.impl.reader.DiscriminatorDeserializer;
+import org.jqassistant.plugin.typescript.impl.reader.LazyValueDeserializer;
+import org.jqassistant.plugin.typescript.impl.reader.ParallelReportReader;
+import org.jqassistant.plugin.typescript.impl.reader.PooledStringDeserializer;
+import org.jqassistant.plugin.typescript.impl.reader.ReportDigest;
+import org.jqassistant.plugin.typescript.impl.reader.ReportIndex;
+import org.jqassistant.plugin.typescript.impl.reader.ReportPipeline;
+import org.jqassistant.plugin.typescript.impl.reader.ReportStream;
+import org.jqassistant.plugin.typescript.impl.reader.ScanProfile;
+import org.jqassistant.plugin.typescript.impl.reader.StreamingReportReader;
+import org.jqassistant.plugin.typescript.impl.reader.StringPool;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @ScannerPlugin.Requires(FileDescriptor.class)
 public class TypescriptProjectScannerPlugin extends AbstractScannerPlugin<FileResource, TypeScriptScanDescriptor> {
 
+    /**
+     * If enabled (default), the report is mapped concept by concept while it is read, instead of being deserialized as a whole first.
+     */
+    public static final String PROPERTY_STREAMING = "typescript.report.streaming";
+
+    /**
+     * Name of the {@link ScanProfile} determining which concepts are read from the report: {@code architecture}, {@code types} or {@code full} (default).
+     */
+    public static final String PROPERTY_PROFILE = "typescript.report.profile";
+
+    /**
+     * Number of threads reading a report concurrently (default: 1, i.e. no concurrent reading).
+     * The projects of uncompressed JSON reports are deserialized in parallel from the memory-mapped report.
+     * Uncompressed newline-delimited reports are memory-mapped and parsed in chunks, at most one chunk per thread ahead of the mapper.
+     */
+    public static final String PROPERTY_PARALLELISM = "typescript.report.parallelism";
+
+    /**
+     * Comma-separated absolute paths of modules or directories: only the modules contained in them are read from the report (default: all modules).
+     * Requires an uncompressed newline-delimited report along with its index (see {@link ReportIndex}), otherwise (or if the index doesn't match the report) all modules are read.
+     */
+    public static final String PROPERTY_MODULES = "typescript.report.modules";
+
+    /**
+     * If enabled, streamed reports are parsed on a separate thread, overlapping with writing the concepts to the store (see {@link ReportPipeline}).
+     */
+    public static final String PROPERTY_PIPELINE = "typescript.report.pipeline";
+
+    /**
+     * If enabled, the values of variables, enum members and decorators are held as buffered tokens until they are mapped (see {@link LazyValueDeserializer}).
+     * Only applies to readers holding records before they are mapped (non-streaming, pipelined or parallel reading and shards):
+     * streamed records are mapped as soon as they have been read, so buffering their values would only parse them twice.
+     */
+    public static final String PROPERTY_LAZY_VALUES = "typescript.report.lazy-values";
+
+    /**
+     * If enabled, a single node is shared per structurally identical type within a project (see {@link SharedTypes}).
+     */
+    public static final String PROPERTY_SHARED_TYPES = "typescript.mapping.shared-types";
+
+    /**
+     * Maximum number of literals per project that share a single node per value and type (default: 0, i.e. literals are not shared, see {@link SharedLiterals}).
+     */
+    public static final String PROPERTY_SHARED_LITERALS = "typescript.mapping.shared-literals";
+
+    /**
+     * Number of concepts after which the transaction is committed while a report is mapped (default: 0, i.e. a single transaction).
+     * The transaction is committed after the project during which the number has been reached.
+     */
+    public static final String PROPERTY_COMMIT_INTERVAL = "typescript.mapping.commit-interval";
+
+    /**
+     * If enabled, the files and directories of a project are created in bulk from its source file paths (see {@link LocalFileResolver#createAll}).
+     */
+    public static final String PROPERTY_BULK_FILES = "typescript.mapping.bulk-files";
+
+    /**
+     * If enabled, large type and value trees are written with a few batched statements (see {@link BulkTreeWriter}, default: disabled).
+     */
+    public static final String PROPERTY_BULK_TREES = "typescript.mapping.bulk-trees";
+
+    /**
+     * File extension of reports using the binary Smile encoding instead of JSON text.
+     */
+    public static final String SMILE_EXTENSION = ".smile";
+
     private ObjectMapper objectMapper;
 
+    private ObjectMapper smileObjectMapper;
+
+    private boolean streaming;
+
+    private boolean pipeline;
+
+    private int parallelism;
+
+    private ScanProfile profile;
+
+    private boolean lazyValues;
+
+    private StringPool stringPool;
+
+    private MappingOptions mappingOptions;
+
     @Override
     public void initialize() {
-        this.objectMapper = new ObjectMapper();
+        this.stringPool = new StringPool();
+        this.mappingOptions = new MappingOptions();
+        this.streaming = true;
+        this.pipeline = false;
+        this.parallelism = 1;
+        initializeObjectMappers(ScanProfile.FULL, false);
+    }
+
+    @Override
+    protected void configure() {
+        StoreIndexes.provision(getScannerContext().getStore());
+        this.streaming = getBooleanProperty(PROPERTY_STREAMING, true);
+        this.pipeline = getBooleanProperty(PROPERTY_PIPELINE, false);
+        this.parallelism = Integer.parseInt(getStringProperty(PROPERTY_PARALLELISM, "1"));
+        this.mappingOptions = createMappingOptions(getProperties());
+        ScanProfile configuredProfile = ScanProfile.byName(getStringProperty(PROPERTY_PROFILE, ScanProfile.FULL.name()));
+        boolean configuredLazyValues = getBooleanProperty(PROPERTY_LAZY_VALUES, false) && (!streaming || pipeline || parallelism > 1);
+        if (configuredProfile != profile || configuredLazyValues != lazyValues) {
+            initializeObjectMappers(configuredProfile, configuredLazyValues);
+        }
+    }
+
+    /**
+     * Profile and lazy values are part of the deserializer configuration, so the mappers have to be re-created whenever they change.
+     */
+    private void initializeObjectMappers(ScanProfile profile, boolean lazyValues) {
+        this.profile = profile;
+        this.lazyValues = lazyValues;
+        this.objectMapper = createObjectMapper(new JsonFactory(), profile, lazyValues, stringPool);
+        this.smileObjectMapper = createObjectMapper(new SmileFactory(), profile, lazyValues, stringPool);
+    }
+
+    static ObjectMapper createObjectMapper(JsonFactory jsonFactory, ScanProfile profile, boolean lazyValues, StringPool stringPool) {
+        ObjectMapper mapper = new ObjectMapper(jsonFactory);
 
         // TODO: remove config option
-        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerModule(PooledStringDeserializer.module(stringPool));
+        mapper.registerModule(DiscriminatorDeserializer.module());
+        mapper.registerModule(profile.module());
+        if (lazyValues) {
+            mapper.registerModule(LazyValueDeserializer.module());
+        }
+        return mapper;
+    }
+
+    /**
+     * @param properties the properties of the scanner plugin
+     */
+    static MappingOptions createMappingOptions(Map<String, Object> properties) {
+        MappingOptions options = new MappingOptions();
+        options.setSharedTypes(Boolean.parseBoolean(String.valueOf(properties.getOrDefault(PROPERTY_SHARED_TYPES, false))));
+        options.setSharedLiterals(Integer.parseInt(String.valueOf(properties.getOrDefault(PROPERTY_SHARED_LITERALS, 0))));
+        options.setCommitInterval(Integer.parseInt(String.valueOf(properties.getOrDefault(PROPERTY_COMMIT_INTERVAL, 0))));
+        options.setBulkFiles(Boolean.parseBoolean(String.valueOf(properties.getOrDefault(PROPERTY_BULK_FILES, false))));
+        options.setBulkTrees(Boolean.parseBoolean(String.valueOf(properties.getOrDefault(PROPERTY_BULK_TREES, false))));
+        return options;
     }
 
     @Override
     public boolean accepts(FileResource fileResource, String path, Scope scope) {
-        return TypescriptScope.PROJECT.equals(scope) && path.endsWith(".json");
+        String reportPath = ReportStream.stripCompressionExtension(path);
+        return TypescriptScope.PROJECT.equals(scope) && (reportPath.endsWith(".json") || reportPath.endsWith(SMILE_EXTENSION));
     }
 
     @Override
     public TypeScriptScanDescriptor scan(FileResource fileResource, String path, Scope scope, Scanner scanner) throws IOException {
-        var reader = objectMapper.readerFor(Project.class);
-        var parser = reader.createParser(fileResource.createStream());
-        List<Project> projects = Arrays.asList(reader.readValue(parser, Project[].class));
-        return TypeScriptScanMapper.INSTANCE.map(projects, scanner);
+        TypeScriptScanDescriptor unchanged = ReportDigest.findUnchanged(fileResource, path, scanner);
+        if (unchanged != null) {
+            return unchanged;
+        }
+        ScannerContext context = scanner.getContext();
+        context.push(MappingOptions.class, mappingOptions);
+        try {
+            return map(fileResource, path, scanner);
+        } finally {
+            context.pop(MappingOptions.class);
+        }
+    }
+
+    private TypeScriptScanDescriptor map(FileResource fileResource, String path, Scanner scanner) throws IOException {
+        long start = System.nanoTime();
+        boolean smile = ReportStream.stripCompressionExtension(path).endsWith(SMILE_EXTENSION);
+        if (parallelism > 1 && !smile && !ReportStream.isCompressed(path)) {
+            // Smile shares property names across the whole document, so its projects can't be read independently,
+            // compressed reports can't be memory-mapped
+            try (var stream = ReportStream.open(fileResource, path)) {
+                TypeScriptScanDescriptor result = new ParallelReportReader(objectMapper, parallelism).read(stream, fileResource.getFile().toPath(), scanner);
+                return ReportDigest.record(result, fileResource, stream.digest(), start);
+            }
+        }
+
+        ObjectMapper mapper = smile ? smileObjectMapper : objectMapper;
+        var reader = mapper.readerFor(Project.class);
+        try (var stream = ReportStream.open(fileResource, path); var parser = reader.createParser(stream)) {
+            TypeScriptScanDescriptor result;
+            if (streaming && pipeline) {
+                StreamingReportReader streamingReader = new StreamingReportReader(mapper, profile);
+                result = new ReportPipeline().read(sink -> streamingReader.read(parser, sink), true, scanner);
+            } else if (streaming) {
+                result = new StreamingReportReader(mapper, profile).read(parser, scanner);
+            } else {
+                List<Project> projects = Arrays.asList(reader.readValue(parser, Project[].class));
+                result = TypeScriptScanMapper.INSTANCE.map(projects, scanner);
+            }
+            return ReportDigest.record(result, fileResource, stream.digest(), start);
+        }
     }
 }
@@ -0,0 +1,86 @@
+package org.jqassistant.plugin.typescript.impl;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
+import com.buschmais.jqassistant.core.scanner.api.ScannerPlugin;
+import com.buschmais.jqassistant.core.scanner.api.Scope;
+import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
+import com.buschmais.jqassistant.plugin.common.api.scanner.AbstractScannerPlugin;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.mapper.core.MappingOptions;
+import org.jqassistant.plugin.typescript.impl.reader.ScanProfile;
+import org.jqassistant.plugin.typescript.impl.reader.ShardedReportReader;
+import org.jqassistant.plugin.typescript.impl.reader.StringPool;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Scans a directory of report shards (one report per project) using the {@link TypescriptScope#PROJECT_SHARDS} scope.
+ * The shards are read concurrently, by default using one thread per available processor.
+ */
+@ScannerPlugin.Requires(FileDescriptor.class)
+public class TypescriptProjectShardsScannerPlugin extends AbstractScannerPlugin<File, TypeScriptScanDescriptor> {
+
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper smileObjectMapper;
+
+    private ScanProfile profile;
+
+    private boolean lazyValues;
+
+    private int parallelism;
+
+    private StringPool stringPool;
+
+    private MappingOptions mappingOptions;
+
+    @Override
+    public void initialize() {
+        this.stringPool = new StringPool();
+        this.mappingOptions = new MappingOptions();
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        initializeObjectMappers(ScanProfile.FULL, false);
+    }
+
+    @Override
+    protected void configure() {
+        StoreIndexes.provision(getScannerContext().getStore());
+        this.parallelism = Integer.parseInt(getStringProperty(TypescriptProjectScannerPlugin.PROPERTY_PARALLELISM,
+            Integer.toString(Runtime.getRuntime().availableProcessors())));
+        this.mappingOptions = TypescriptProjectScannerPlugin.createMappingOptions(getProperties());
+        ScanProfile configuredProfile = ScanProfile.byName(getStringProperty(TypescriptProjectScannerPlugin.PROPERTY_PROFILE, ScanProfile.FULL.name()));
+        boolean configuredLazyValues = getBooleanProperty(TypescriptProjectScannerPlugin.PROPERTY_LAZY_VALUES, false);
+        if (configuredProfile != profile || configuredLazyValues != lazyValues) {
+            initializeObjectMappers(configuredProfile, configuredLazyValues);
+        }
+    }
+
+    private void initializeObjectMappers(ScanProfile profile, boolean lazyValues) {
+        this.profile = profile;
+        this.lazyValues = lazyValues;
+        this.objectMapper = TypescriptProjectScannerPlugin.createObjectMapper(new JsonFactory(), profile, lazyValues, stringPool);
+        this.smileObjectMapper = TypescriptProjectScannerPlugin.createObjectMapper(new SmileFactory(), profile, lazyValues, stringPool);
+    }
+
+    @Override
+    public boolean accepts(File file, String path, Scope scope) {
+        return TypescriptScope.PROJECT_SHARDS.equals(scope) && file.isDirectory();
+    }
+
+    @Override
+    public TypeScriptScanDescriptor scan(File file, String path, Scope scope, Scanner scanner) throws IOException {
+        ScannerContext context = scanner.getContext();
+        context.push(MappingOptions.class, mappingOptions);
+        try {
+            return new ShardedReportReader(objectMapper, smileObjectMapper, profile, parallelism).read(file, scanner);
+        } finally {
+            context.pop(MappingOptions.class);
+        }
+    }
+}
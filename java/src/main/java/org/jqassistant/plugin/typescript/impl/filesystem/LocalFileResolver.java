@@ -2,6 +2,11 @@ package org.jqassistant.plugin.typescript.impl.filesystem;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
@@ -10,6 +15,7 @@ import com.buschmais.jqassistant.plugin.common.api.model.DirectoryDescriptor;
 import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
 import com.buschmais.jqassistant.plugin.common.api.scanner.FileResolver;
 import com.buschmais.xo.api.Query;
+import com.github.benmanes.caffeine.cache.Cache;
 
 import org.jqassistant.plugin.typescript.api.model.core.LocalFileDescriptor;
 
@@ -17,6 +23,14 @@ import static com.buschmais.jqassistant.core.shared.io.FileNameNormalizer.normal
 
 public class LocalFileResolver implements FileResolver {
 
+    private static final int BATCH_SIZE = 10_000;
+
+    /**
+     * Cache of the established {@code CONTAINS} relations, from the absolute file name of the child to the one of its parent directory.
+     * As the descriptors, it is shared by the resolvers of all projects mapped into the store.
+     */
+    private static final String LINKS_CACHE = LocalFileResolver.class.getName() + ".links";
+
     private final Path root;
 
     public LocalFileResolver(Path root) {
@@ -38,22 +52,113 @@ public class LocalFileResolver implements FileResolver {
         return resolve(containedPath, type, context);
     }
 
+    /**
+     * Creates the given files, all their ancestor directories and the {@code CONTAINS} relations between them with a few batched statements.
+     * The descriptors are put into the cache, so that resolving any of the paths afterward neither queries the store nor walks the hierarchy.
+     * The links are only cached once all statements have succeeded, so that a failed statement doesn't leave relations behind that are cached but missing in the store.
+     */
+    public void createAll(Collection<String> paths, ScannerContext context) {
+        Map<String, Path> files = new LinkedHashMap<>();
+        Map<String, Path> directories = new LinkedHashMap<>();
+        Map<String, String> newLinks = new HashMap<>();
+        List<Map<String, Object>> relations = new ArrayList<>();
+        Store store = context.getStore();
+        Cache<String, String> links = store.getCache(LINKS_CACHE);
+        for (String path : paths) {
+            Path currentPath = Paths.get(path).toAbsolutePath();
+            String absoluteFileName = normalize(currentPath.toString());
+            files.putIfAbsent(absoluteFileName, currentPath);
+            Path parentPath;
+            while (!newLinks.containsKey(absoluteFileName) && links.getIfPresent(absoluteFileName) == null && (parentPath = currentPath.getParent()) != null) {
+                String parentFileName = normalize(parentPath.toString());
+                directories.putIfAbsent(parentFileName, parentPath);
+                relations.add(Map.of("child", absoluteFileName, "parent", parentFileName));
+                newLinks.put(absoluteFileName, parentFileName);
+                currentPath = parentPath;
+                absoluteFileName = parentFileName;
+            }
+        }
+        directories.keySet().forEach(files::remove);
+
+        createFiles("MERGE (file:File:Local{absoluteFileName: entry.absoluteFileName}) ", files, store);
+        createFiles("MERGE (file:File:Local{absoluteFileName: entry.absoluteFileName}) SET file:Directory ", directories, store);
+        createRelations(relations, store);
+        links.putAll(newLinks);
+    }
+
+    /**
+     * Drops the cached descriptors of files and directories, e.g. after a commit in the middle of a scan cleared the XO cache.
+     * The links between files are kept, as they only consist of file names.
+     */
+    public static void detach(Store store) {
+        store.getCache(LocalFileResolver.class.getName()).invalidateAll();
+    }
+
+    /**
+     * Merges the {@code CONTAINS} relations, so that relations existing from a previous scan into the same store are not duplicated.
+     */
+    private static void createRelations(List<Map<String, Object>> relations, Store store) {
+        for (int i = 0; i < relations.size(); i += BATCH_SIZE) {
+            store.executeQuery(
+                "UNWIND $relations AS relation " +
+                "MATCH (child:File:Local{absoluteFileName: relation.child}) " +
+                "MATCH (parent:File:Local{absoluteFileName: relation.parent}) " +
+                "MERGE (parent)-[:CONTAINS]->(child)",
+                Map.of("relations", relations.subList(i, Math.min(i + BATCH_SIZE, relations.size()))));
+        }
+    }
+
+    private void createFiles(String merge, Map<String, Path> files, Store store) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Map.Entry<String, Path> file : files.entrySet()) {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("absoluteFileName", file.getKey());
+            entry.put("fileName", getFileName(file.getValue()));
+            entries.add(entry);
+        }
+        for (int i = 0; i < entries.size(); i += BATCH_SIZE) {
+            Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(
+                "UNWIND $entries AS entry " + merge +
+                "SET file.fileName = coalesce(entry.fileName, file.fileName) " +
+                "RETURN file",
+                Map.of("entries", entries.subList(i, Math.min(i + BATCH_SIZE, entries.size()))));
+            for (Query.Result.CompositeRowObject row : result) {
+                LocalFileDescriptor descriptor = row.get("file", LocalFileDescriptor.class);
+                store.<String, LocalFileDescriptor>getCache(LocalFileResolver.class.getName())
+                    .put(descriptor.getAbsoluteFileName(), descriptor);
+            }
+        }
+    }
+
     private <D extends FileDescriptor> D resolve(String required, Class<D> type, ScannerContext context) {
         Path requiredPath = Paths.get(required)
             .toAbsolutePath();
         D fileDescriptor = getFileDescriptor(requiredPath, type, context);
-        resolveHierarchy(requiredPath, fileDescriptor, context);
+        resolveHierarchy(requiredPath, context);
         return fileDescriptor;
     }
 
-    private <D extends FileDescriptor> void resolveHierarchy(Path currentPath, D fileDescriptor, ScannerContext context) {
-        FileDescriptor child = fileDescriptor;
-        while ((currentPath = currentPath.getParent()) != null) {
-            DirectoryDescriptor parent = getFileDescriptor(currentPath, DirectoryDescriptor.class, context);
-            child.getParents()
-                .add(parent);
-            child = parent;
+    /**
+     * Links the file to its parent directory and climbs up to the first ancestor that is already linked to its parent.
+     * The relations that are not known to the cache are merged with a single statement, as they may exist from a previous scan into the same store,
+     * and are only cached once it has succeeded.
+     */
+    private void resolveHierarchy(Path currentPath, ScannerContext context) {
+        Cache<String, String> links = context.getStore().getCache(LINKS_CACHE);
+        Map<String, String> newLinks = new HashMap<>();
+        List<Map<String, Object>> relations = new ArrayList<>();
+        String childFileName = normalize(currentPath.toString());
+        Path parentPath;
+        while (links.getIfPresent(childFileName) == null && (parentPath = currentPath.getParent()) != null) {
+            getFileDescriptor(parentPath, DirectoryDescriptor.class, context);
+            String parentFileName = normalize(parentPath.toString());
+            relations.add(Map.of("child", childFileName, "parent", parentFileName));
+            newLinks.put(childFileName, parentFileName);
+            childFileName = parentFileName;
+            currentPath = parentPath;
         }
+        createRelations(relations, context.getStore());
+        links.putAll(newLinks);
     }
 
     private <D extends FileDescriptor> D getFileDescriptor(Path path, Class<D> type, ScannerContext context) {
@@ -65,13 +170,24 @@ public class LocalFileResolver implements FileResolver {
                 return result.getSingleResult()
                     .get("file", LocalFileDescriptor.class);
             });
-        if (path.startsWith(root)) {
-            localFileDescriptor.setFileName("./" + normalize(root.relativize(path)
-                .toString()));
+        String fileName = getFileName(path);
+        if (fileName != null) {
+            localFileDescriptor.setFileName(fileName);
         }
         if (!type.isAssignableFrom(localFileDescriptor.getClass())) {
             return store.addDescriptorType(localFileDescriptor, type);
         }
         return type.cast(localFileDescriptor);
     }
+
+    /**
+     * @return the file name relative to the root of the project, or {@code null} if the path is not located within the root
+     */
+    private String getFileName(Path path) {
+        if (!path.startsWith(root)) {
+            return null;
+        }
+        return "./" + normalize(root.relativize(path)
+            .toString());
+    }
 }
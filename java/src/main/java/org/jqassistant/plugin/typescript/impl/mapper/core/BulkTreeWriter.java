@@ -0,0 +1,455 @@
+package org.jqassistant.plugin.typescript.impl.mapper.core;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.xo.api.Query;
+import com.buschmais.xo.neo4j.api.annotation.Label;
+import org.jqassistant.plugin.typescript.api.model.core.*;
+import org.jqassistant.plugin.typescript.impl.model.core.*;
+import org.mapstruct.factory.Mappers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Writes type and value trees to the store in bulk, instead of creating each of their nodes and relations on its own.
+ * <p>
+ * A tree is flattened into nodes (grouped by their labels) and relations (grouped by their type), each group is created by a single
+ * {@code UNWIND ... CREATE} statement. Afterward, the root of the tree and its declared types and values are loaded as descriptors:
+ * the root is linked to its owner by the calling mapper, the declared types and values are registered at the {@link FqnResolver}.
+ * <p>
+ * Trees with less than {@link #MIN_NODES} nodes are mapped node by node, as the statements don't pay off for them. Such a tree is flattened only once:
+ * its subtrees are mapped node by node as well, without being flattened again.
+ * Function types and type parameter references depend on the type parameters in scope, so they are mapped as usual and linked to the tree by their ids,
+ * as are all types of values if types are shared and all literals if literals are shared.
+ * <p>
+ * Labels and relation types are taken from the XO annotations of the descriptors, so that trees written in bulk are the same as the ones mapped node by node.
+ */
+public class BulkTreeWriter {
+
+    /**
+     * Minimum number of nodes of a tree to be written in bulk.
+     */
+    public static final int MIN_NODES = 16;
+
+    private static final String TYPE_DECLARED_TYPE_ARGUMENT = relationType(TypeDeclaredHasTypeArgumentDescriptor.class);
+    private static final String TYPE_UNION_CONTAINS = relationType(TypeUnionDescriptor.class, "getTypes");
+    private static final String TYPE_INTERSECTION_CONTAINS = relationType(TypeIntersectionDescriptor.class, "getTypes");
+    private static final String TYPE_OBJECT_MEMBER = relationType(TypeObjectDescriptor.class, "getMembers");
+    private static final String TYPE_OBJECT_MEMBER_TYPE = relationType(TypeObjectMemberDescriptor.class, "getType");
+    private static final String TYPE_TUPLE_CONTAINS = relationType(TypeTupleContainsDescriptor.class);
+    private static final String VALUE_TYPE = relationType(ValueDescriptor.class, "getType");
+    private static final String VALUE_MEMBER_PARENT = relationType(ValueMemberDescriptor.class, "getParent");
+    private static final String VALUE_MEMBER_MEMBER = relationType(ValueMemberDescriptor.class, "getMember");
+    private static final String VALUE_OBJECT_MEMBER = relationType(ValueObjectDescriptor.class, "getMembers");
+    private static final String VALUE_OBJECT_MEMBER_REFERENCE = relationType(ValueObjectMemberDescriptor.class, "getReference");
+    private static final String VALUE_ARRAY_CONTAINS = relationType(ValueArrayContainsDescriptor.class);
+    private static final String VALUE_CALL_CALLEE = relationType(ValueCallDescriptor.class, "getCallee");
+    private static final String VALUE_CALL_ARGUMENT = relationType(ValueCallHasArgumentDescriptor.class);
+    private static final String VALUE_CALL_TYPE_ARGUMENT = relationType(ValueCallHasTypeArgumentDescriptor.class);
+
+    private static final Map<Class<?>, String> LABELS = new ConcurrentHashMap<>();
+
+    private BulkTreeWriter() {
+    }
+
+    /**
+     * Writes the type tree in bulk if enabled (see {@link MappingOptions#isBulkTrees()}) and large enough, maps it node by node otherwise.
+     */
+    public static TypeDescriptor write(Type type, Scanner scanner, Supplier<TypeDescriptor> nodeByNode) {
+        if (!isEnabled(scanner)) {
+            return nodeByNode.get();
+        }
+        Tree tree = new Tree(false, false);
+        return write(tree, tree.flatten(type), scanner, nodeByNode);
+    }
+
+    /**
+     * Writes the value tree in bulk if enabled (see {@link MappingOptions#isBulkTrees()}) and large enough, maps it node by node otherwise.
+     */
+    public static ValueDescriptor write(Value value, Scanner scanner, Supplier<ValueDescriptor> nodeByNode) {
+        if (!isEnabled(scanner)) {
+            return nodeByNode.get();
+        }
+        ProjectContext projectContext = scanner.getContext().peek(ProjectContext.class);
+        Tree tree = new Tree(projectContext.getSharedTypes() != null, projectContext.getSharedLiterals() != null);
+        return write(tree, tree.flatten(value), scanner, nodeByNode);
+    }
+
+    /**
+     * @return {@code false} if bulk trees are disabled or a tree is currently mapped node by node, i.e. its subtrees have already been flattened
+     */
+    private static boolean isEnabled(Scanner scanner) {
+        ScannerContext context = scanner.getContext();
+        return context.peek(MappingOptions.class).isBulkTrees() && !context.peek(ProjectContext.class).isNodeByNode();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D extends TypeScriptDescriptor> D write(Tree tree, Node root, Scanner scanner, Supplier<D> nodeByNode) {
+        if (root == null || root.pending != null) {
+            // nothing has been flattened below the root
+            return nodeByNode.get();
+        }
+        if (tree.nodes.size() < MIN_NODES) {
+            ProjectContext projectContext = scanner.getContext().peek(ProjectContext.class);
+            projectContext.setNodeByNode(true);
+            try {
+                return nodeByNode.get();
+            } finally {
+                projectContext.setNodeByNode(false);
+            }
+        }
+        Store store = scanner.getContext().getStore();
+        for (Node node : tree.pending) {
+            TypeScriptDescriptor descriptor = node.pending instanceof Type ?
+                Mappers.getMapper(TypeMapper.class).toDescriptor((Type) node.pending, scanner) :
+                Mappers.getMapper(ValueMapper.class).toDescriptor((Value) node.pending, scanner);
+            node.descriptor = descriptor;
+            node.id = descriptor != null ? descriptor.getId() : null;
+        }
+        for (Node typeNode : tree.pendingValueTypes) {
+            ValueDescriptor valueDescriptor = (ValueDescriptor) typeNode.typeOf.descriptor;
+            TypeDescriptor typeDescriptor = valueDescriptor != null ? valueDescriptor.getType() : null;
+            typeNode.id = typeDescriptor != null ? typeDescriptor.getId() : null;
+        }
+        createNodes(tree, store);
+        createRelations(tree, store);
+        return (D) load(tree, root, scanner);
+    }
+
+    private static String labels(Class<?> descriptorType) {
+        return LABELS.computeIfAbsent(descriptorType, type -> {
+            Set<String> labels = new LinkedHashSet<>();
+            collectLabels(type, labels);
+            StringBuilder builder = new StringBuilder();
+            labels.forEach(label -> builder.append(':').append(label));
+            return builder.toString();
+        });
+    }
+
+    private static void collectLabels(Class<?> type, Set<String> labels) {
+        for (Class<?> superType : type.getInterfaces()) {
+            collectLabels(superType, labels);
+        }
+        Label label = type.getAnnotation(Label.class);
+        if (label != null) {
+            labels.add(label.value());
+        }
+    }
+
+    private static String relationType(Class<?> relationDescriptorType) {
+        return relationDescriptorType.getAnnotation(com.buschmais.xo.neo4j.api.annotation.Relation.class).value();
+    }
+
+    private static String relationType(Class<?> descriptorType, String getter) {
+        try {
+            return descriptorType.getMethod(getter).getAnnotation(com.buschmais.xo.neo4j.api.annotation.Relation.class).value();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Relation " + getter + " is not declared by " + descriptorType.getName(), e);
+        }
+    }
+
+    private static void createNodes(Tree tree, Store store) {
+        Map<String, List<Node>> nodesByLabels = new LinkedHashMap<>();
+        for (Node node : tree.nodes) {
+            nodesByLabels.computeIfAbsent(node.labels, labels -> new ArrayList<>()).add(node);
+        }
+        nodesByLabels.forEach((labels, nodes) -> {
+            List<Map<String, Object>> parameters = new ArrayList<>(nodes.size());
+            for (int i = 0; i < nodes.size(); i++) {
+                parameters.add(Map.of("key", i, "properties", nodes.get(i).properties));
+            }
+            Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(
+                "UNWIND $nodes AS node CREATE (n" + labels + ") SET n += node.properties RETURN node.key AS key, id(n) AS id",
+                Map.of("nodes", parameters));
+            for (Query.Result.CompositeRowObject row : result) {
+                nodes.get(row.get("key", Long.class).intValue()).id = row.get("id", Long.class);
+            }
+        });
+    }
+
+    private static void createRelations(Tree tree, Store store) {
+        Map<String, List<Map<String, Object>>> relationsByType = new LinkedHashMap<>();
+        for (Relation relation : tree.relations) {
+            if (relation.to.id == null) {
+                continue;
+            }
+            Map<String, Object> properties = relation.index != null ? Map.of("index", relation.index) : Map.of();
+            relationsByType.computeIfAbsent(relation.type, type -> new ArrayList<>())
+                .add(Map.of("from", relation.from.id, "to", relation.to.id, "properties", properties));
+        }
+        relationsByType.forEach((type, relations) -> store.executeQuery(
+            "UNWIND $relations AS relation MATCH (from) WHERE id(from) = relation.from MATCH (to) WHERE id(to) = relation.to " +
+                "CREATE (from)-[r:" + type + "]->(to) SET r += relation.properties",
+            Map.of("relations", relations)));
+    }
+
+    private static TypeScriptDescriptor load(Tree tree, Node root, Scanner scanner) {
+        List<Object> ids = new ArrayList<>(tree.declared.size() + 1);
+        ids.add(root.id);
+        tree.declared.forEach(node -> ids.add(node.id));
+        Query.Result<Query.Result.CompositeRowObject> result = scanner.getContext().getStore().executeQuery(
+            "MATCH (n) WHERE id(n) IN $ids RETURN n", Map.of("ids", ids));
+        FqnResolver fqnResolver = scanner.getContext().peek(FqnResolver.class);
+        TypeScriptDescriptor rootDescriptor = null;
+        for (Query.Result.CompositeRowObject row : result) {
+            TypeScriptDescriptor descriptor = row.get("n", TypeScriptDescriptor.class);
+            if (descriptor.getId().equals(root.id)) {
+                rootDescriptor = descriptor;
+            }
+            if (descriptor instanceof TypeDeclaredDescriptor) {
+                fqnResolver.registerRef((TypeDeclaredDescriptor) descriptor);
+            } else if (descriptor instanceof ValueDeclaredDescriptor) {
+                fqnResolver.registerRef((ValueDeclaredDescriptor) descriptor);
+            }
+        }
+        return rootDescriptor;
+    }
+
+    /**
+     * Node of a flattened tree: either one to be created in bulk (with labels and properties), or the root of a subtree that is mapped as usual.
+     */
+    private static class Node {
+
+        private final String labels;
+
+        private final Map<String, Object> properties = new HashMap<>();
+
+        private final Object pending;
+
+        /**
+         * Value whose type this node is, if the value is mapped as usual.
+         */
+        private final Node typeOf;
+
+        /**
+         * Type of a value node.
+         */
+        private Node type;
+
+        private TypeScriptDescriptor descriptor;
+
+        private Object id;
+
+        private Node(Class<?> descriptorType, Object pending, Node typeOf) {
+            this.labels = descriptorType != null ? labels(descriptorType) : null;
+            this.pending = pending;
+            this.typeOf = typeOf;
+        }
+
+        private Node property(String name, Object value) {
+            if (value != null) {
+                properties.put(name, value);
+            }
+            return this;
+        }
+    }
+
+    private static class Relation {
+
+        private final Node from;
+
+        private final String type;
+
+        private final Node to;
+
+        private final Integer index;
+
+        private Relation(Node from, String type, Node to, Integer index) {
+            this.from = from;
+            this.type = type;
+            this.to = to;
+            this.index = index;
+        }
+    }
+
+    private static class Tree {
+
+        /**
+         * If types are shared (see {@link SharedTypes}), the types of values are resolved by the {@link TypeMapper}.
+         */
+        private final boolean sharedTypes;
+
+        /**
+         * If literals are shared (see {@link SharedLiterals}), they are resolved by the {@link ValueMapper}.
+         */
+        private final boolean sharedLiterals;
+
+        private final List<Node> nodes = new ArrayList<>();
+
+        private final List<Node> pending = new ArrayList<>();
+
+        private final List<Node> pendingValueTypes = new ArrayList<>();
+
+        private final List<Node> declared = new ArrayList<>();
+
+        private final List<Relation> relations = new ArrayList<>();
+
+        private Tree(boolean sharedTypes, boolean sharedLiterals) {
+            this.sharedTypes = sharedTypes;
+            this.sharedLiterals = sharedLiterals;
+        }
+
+        private Node node(Class<? extends TypeScriptDescriptor> descriptorType) {
+            Node node = new Node(descriptorType, null, null);
+            nodes.add(node);
+            return node;
+        }
+
+        private Node pending(Object subtree) {
+            Node node = new Node(null, subtree, null);
+            pending.add(node);
+            return node;
+        }
+
+        /**
+         * @return the type of the value, resolved once the value has been mapped if it is mapped as usual
+         */
+        private Node typeOf(Node value) {
+            if (value.pending == null) {
+                return value.type;
+            }
+            Node node = new Node(null, null, value);
+            pendingValueTypes.add(node);
+            return node;
+        }
+
+        private void relate(Node from, String type, Node to) {
+            relate(from, type, to, null);
+        }
+
+        private void relate(Node from, String type, Node to, Integer index) {
+            if (to != null) {
+                relations.add(new Relation(from, type, to, index));
+            }
+        }
+
+        private Node flatten(Type type) {
+            if (type == null) {
+                return null;
+            }
+            if (sharedTypes) {
+                return pending(type);
+            }
+            Node node;
+            if (type instanceof TypePrimitive) {
+                node = node(TypePrimitiveDescriptor.class).property("name", ((TypePrimitive) type).getName());
+            } else if (type instanceof TypeDeclared) {
+                TypeDeclared typeDeclared = (TypeDeclared) type;
+                node = node(TypeDeclaredDescriptor.class).property("referencedGlobalFqn", typeDeclared.getGlobalFqn());
+                for (int i = 0; i < typeDeclared.getTypeArguments().size(); i++) {
+                    relate(node, TYPE_DECLARED_TYPE_ARGUMENT, flatten(typeDeclared.getTypeArguments().get(i)), i);
+                }
+                declared.add(node);
+            } else if (type instanceof TypeUnion) {
+                node = node(TypeUnionDescriptor.class);
+                for (Type containedType : ((TypeUnion) type).getTypes()) {
+                    relate(node, TYPE_UNION_CONTAINS, flatten(containedType));
+                }
+            } else if (type instanceof TypeIntersection) {
+                node = node(TypeIntersectionDescriptor.class);
+                for (Type containedType : ((TypeIntersection) type).getTypes()) {
+                    relate(node, TYPE_INTERSECTION_CONTAINS, flatten(containedType));
+                }
+            } else if (type instanceof TypeObject) {
+                node = node(TypeObjectDescriptor.class);
+                for (TypeObjectMember member : ((TypeObject) type).getMembers()) {
+                    Node memberNode = node(TypeObjectMemberDescriptor.class)
+                        .property("name", member.getName())
+                        .property("optional", member.getOptional())
+                        .property("readonly", member.getReadonly());
+                    relate(memberNode, TYPE_OBJECT_MEMBER_TYPE, flatten(member.getType()));
+                    relate(node, TYPE_OBJECT_MEMBER, memberNode);
+                }
+            } else if (type instanceof TypeLiteral) {
+                node = node(TypeLiteralDescriptor.class).property("value", ((TypeLiteral) type).getValue());
+            } else if (type instanceof TypeTuple) {
+                node = node(TypeTupleDescriptor.class);
+                List<Type> types = ((TypeTuple) type).getTypes();
+                for (int i = 0; i < types.size(); i++) {
+                    relate(node, TYPE_TUPLE_CONTAINS, flatten(types.get(i)), i);
+                }
+            } else if (type instanceof TypeNotIdentified) {
+                node = node(TypeNotIdentifiedDescriptor.class).property("identifier", ((TypeNotIdentified) type).getIdentifier());
+            } else {
+                node = pending(type);
+            }
+            return node;
+        }
+
+        private Node flatten(Value value) {
+            if (value == null) {
+                return null;
+            }
+            Node node;
+            if (value instanceof ValueNull) {
+                node = node(ValueNullDescriptor.class).property("kind", ((ValueNull) value).getKind());
+            } else if (value instanceof ValueLiteral && sharedLiterals) {
+                return pending(value);
+            } else if (value instanceof ValueLiteral) {
+                Object literal = ((ValueLiteral) value).getValue();
+                if (literal == null) {
+                    return null;
+                }
+                if (!(literal instanceof String || literal instanceof Number || literal instanceof Boolean)) {
+                    literal = literal.toString();
+                }
+                node = node(ValueLiteralDescriptor.class).property("value", literal);
+            } else if (value instanceof ValueDeclared) {
+                node = node(ValueDeclaredDescriptor.class).property("referencedGlobalFqn", ((ValueDeclared) value).getGlobalFqn());
+                declared.add(node);
+            } else if (value instanceof ValueMember) {
+                node = node(ValueMemberDescriptor.class);
+                relate(node, VALUE_MEMBER_PARENT, flatten(((ValueMember) value).getParent()));
+                relate(node, VALUE_MEMBER_MEMBER, flatten(((ValueMember) value).getMember()));
+            } else if (value instanceof ValueObject) {
+                node = node(ValueObjectDescriptor.class);
+                for (Map.Entry<String, Value> member : ((ValueObject) value).getMembers().entrySet()) {
+                    Node memberNode = node(ValueObjectMemberDescriptor.class).property("name", member.getKey());
+                    Node reference = flatten(member.getValue());
+                    relate(memberNode, VALUE_OBJECT_MEMBER_REFERENCE, reference);
+                    if (reference != null) {
+                        relate(memberNode, VALUE_TYPE, typeOf(reference));
+                    }
+                    relate(node, VALUE_OBJECT_MEMBER, memberNode);
+                }
+            } else if (value instanceof ValueArray) {
+                node = node(ValueArrayDescriptor.class);
+                List<Value> items = ((ValueArray) value).getItems();
+                for (int i = 0; i < items.size(); i++) {
+                    relate(node, VALUE_ARRAY_CONTAINS, flatten(items.get(i)), i);
+                }
+            } else if (value instanceof ValueCall) {
+                ValueCall valueCall = (ValueCall) value;
+                node = node(ValueCallDescriptor.class);
+                relate(node, VALUE_CALL_CALLEE, flatten(valueCall.getCallee()));
+                for (int i = 0; i < valueCall.getArgs().size(); i++) {
+                    relate(node, VALUE_CALL_ARGUMENT, flatten(valueCall.getArgs().get(i)), i);
+                }
+                for (int i = 0; i < valueCall.getTypeArgs().size(); i++) {
+                    relate(node, VALUE_CALL_TYPE_ARGUMENT, flatten(valueCall.getTypeArgs().get(i)), i);
+                }
+            } else if (value instanceof ValueFunction) {
+                node = node(ValueFunctionDescriptor.class).property("arrowFunction", ((ValueFunction) value).getArrowFunction());
+            } else if (value instanceof ValueClass) {
+                node = node(ValueClassDescriptor.class);
+            } else if (value instanceof ValueComplex) {
+                node = node(ValueComplexDescriptor.class).property("expression", ((ValueComplex) value).getExpression());
+            } else {
+                return pending(value);
+            }
+            node.type = flatten(value.getType());
+            relate(node, VALUE_TYPE, node.type);
+            return node;
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+package org.jqassistant.plugin.typescript.impl.mapper.core;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.xo.api.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ancestors of a set of nodes along the {@code DECLARES} and {@code EXPORTS} relations, held in memory by the ids of the nodes.
+ * <p>
+ * The ancestors are loaded level by level with one batched statement per level, starting from the given nodes.
+ * Only relations of the current scan are followed: {@code DECLARES} relations are created together with the declared node,
+ * {@code EXPORTS} relations are only followed if the exporting node is a concept of the current scan.
+ * As for variable-length patterns in Cypher, ancestors are counted once per path (relations are not repeated within a path).
+ */
+public class DeclarationHierarchy {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final Map<Long, List<Parent>> parents = new HashMap<>();
+
+    private final Set<Long> typeScriptNodes = new HashSet<>();
+
+    private final Map<Long, Map<Long, Integer>> declaringPaths = new HashMap<>();
+
+    private final Map<Long, Map<Long, Integer>> containingPaths = new HashMap<>();
+
+    private DeclarationHierarchy() {
+    }
+
+    /**
+     * Loads all ancestors of the given nodes.
+     *
+     * @param scope ids of the concepts of the current scan
+     */
+    public static DeclarationHierarchy load(Collection<Long> ids, Set<Long> scope, Store store) {
+        DeclarationHierarchy hierarchy = new DeclarationHierarchy();
+        Set<Long> visited = new HashSet<>(ids);
+        List<Long> level = new ArrayList<>(visited);
+        while (!level.isEmpty()) {
+            List<Long> nextLevel = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += BATCH_SIZE) {
+                Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(
+                    "UNWIND $ids AS childId " +
+                    "MATCH (parent)-[r:DECLARES|EXPORTS]->(child) WHERE id(child) = childId " +
+                    "RETURN childId AS child, id(parent) AS parent, id(r) AS relation, type(r) = 'DECLARES' AS declares, parent:TS AS typeScript",
+                    Map.of("ids", level.subList(i, Math.min(i + BATCH_SIZE, level.size()))));
+                for (Query.Result.CompositeRowObject row : result) {
+                    Long parent = row.get("parent", Long.class);
+                    boolean declares = row.get("declares", Boolean.class);
+                    if (!declares && !scope.contains(parent)) {
+                        continue;
+                    }
+                    hierarchy.parents.computeIfAbsent(row.get("child", Long.class), key -> new ArrayList<>())
+                        .add(new Parent(parent, row.get("relation", Long.class), declares));
+                    if (row.get("typeScript", Boolean.class)) {
+                        hierarchy.typeScriptNodes.add(parent);
+                    }
+                    if (visited.add(parent)) {
+                        nextLevel.add(parent);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+        return hierarchy;
+    }
+
+    /**
+     * @return the TypeScript nodes declaring the given node (directly or transitively), with the number of {@code DECLARES} paths to the node
+     */
+    public Map<Long, Integer> getDeclaringNodes(long id) {
+        return filterTypeScriptNodes(getPaths(id, true, declaringPaths));
+    }
+
+    /**
+     * @return the TypeScript nodes declaring or exporting the given node (directly or transitively), with the number of {@code DECLARES}/{@code EXPORTS} paths to the node
+     */
+    public Map<Long, Integer> getContainingNodes(long id) {
+        return filterTypeScriptNodes(getPaths(id, false, containingPaths));
+    }
+
+    /**
+     * @return {@code true} if the ancestor declares the node (directly or transitively), regardless of the labels of the nodes in between
+     */
+    public boolean declares(long ancestor, long id) {
+        return getPaths(id, true, declaringPaths).containsKey(ancestor);
+    }
+
+    private Map<Long, Integer> filterTypeScriptNodes(Map<Long, Integer> paths) {
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        paths.forEach((ancestor, count) -> {
+            if (typeScriptNodes.contains(ancestor)) {
+                result.put(ancestor, count);
+            }
+        });
+        return result;
+    }
+
+    private Map<Long, Integer> getPaths(long id, boolean declaresOnly, Map<Long, Map<Long, Integer>> cache) {
+        Map<Long, Integer> paths = cache.get(id);
+        if (paths == null) {
+            paths = new LinkedHashMap<>();
+            collectPaths(id, declaresOnly, new HashSet<>(), paths);
+            cache.put(id, paths);
+        }
+        return paths;
+    }
+
+    private void collectPaths(long id, boolean declaresOnly, Set<Long> pathRelations, Map<Long, Integer> paths) {
+        for (Parent parent : parents.getOrDefault(id, List.of())) {
+            if ((declaresOnly && !parent.declares) || !pathRelations.add(parent.relation)) {
+                continue;
+            }
+            paths.merge(parent.id, 1, Integer::sum);
+            collectPaths(parent.id, declaresOnly, pathRelations, paths);
+            pathRelations.remove(parent.relation);
+        }
+    }
+
+    private static class Parent {
+
+        private final long id;
+
+        private final long relation;
+
+        private final boolean declares;
+
+        private Parent(long id, long relation, boolean declares) {
+            this.id = id;
+            this.relation = relation;
+            this.declares = declares;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.jqassistant.plugin.typescript.impl.mapper.core;
+
+/**
+ * Sums the cardinalities of dependencies per pair of source and target node, keyed by the primitive ids of the nodes.
+ * <p>
+ * The pairs are held in parallel arrays with open addressing, so that neither boxed ids nor an entry object are allocated per dependency.
+ * Pairs are iterated in the order they were added first.
+ */
+public class DependencyAggregation {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] sources = new long[INITIAL_CAPACITY];
+
+    private long[] targets = new long[INITIAL_CAPACITY];
+
+    private long[] cardinalities = new long[INITIAL_CAPACITY];
+
+    /**
+     * Index of each pair in the arrays above plus one, {@code 0} for free slots.
+     */
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    private int size;
+
+    private final boolean selfReferences;
+
+    /**
+     * @param selfReferences {@code false} if dependencies of a node on itself are dropped
+     */
+    public DependencyAggregation(boolean selfReferences) {
+        this.selfReferences = selfReferences;
+    }
+
+    public void add(long source, long target, long cardinality) {
+        if (!selfReferences && source == target) {
+            return;
+        }
+        int mask = slots.length - 1;
+        int slot = hash(source, target) & mask;
+        int index;
+        while ((index = slots[slot]) != 0) {
+            if (sources[index - 1] == source && targets[index - 1] == target) {
+                cardinalities[index - 1] += cardinality;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == sources.length) {
+            grow();
+            add(source, target, cardinality);
+            return;
+        }
+        sources[size] = source;
+        targets[size] = target;
+        cardinalities[size] = cardinality;
+        slots[slot] = ++size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(Consumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(sources[i], targets[i], cardinalities[i]);
+        }
+    }
+
+    private void grow() {
+        int capacity = sources.length * 2;
+        long[] previousSources = sources;
+        long[] previousTargets = targets;
+        long[] previousCardinalities = cardinalities;
+        int previousSize = size;
+        sources = new long[capacity];
+        targets = new long[capacity];
+        cardinalities = new long[capacity];
+        slots = new int[capacity * 2];
+        size = 0;
+        for (int i = 0; i < previousSize; i++) {
+            add(previousSources[i], previousTargets[i], previousCardinalities[i]);
+        }
+    }
+
+    private static int hash(long source, long target) {
+        long hash = source * 0x9E3779B97F4A7C15L + target;
+        hash ^= hash >>> 32;
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+
+        void accept(long source, long target, long cardinality);
+    }
+
+}
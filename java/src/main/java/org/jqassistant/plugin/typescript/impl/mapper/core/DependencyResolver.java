@@ -2,55 +2,88 @@ package org.jqassistant.plugin.typescript.impl.mapper.core;
 
 import com.buschmais.jqassistant.core.scanner.api.Scanner;
 import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
-import org.jqassistant.plugin.typescript.api.model.core.DependsOnDescriptor;
-import org.jqassistant.plugin.typescript.api.model.core.TypeScriptDescriptor;
+import com.buschmais.jqassistant.core.store.api.Store;
 import org.jqassistant.plugin.typescript.impl.model.core.Dependency;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Creates the {@code DEPENDS_ON} relations of a report.
+ * <p>
+ * Each dependency is lifted to the concepts declaring or exporting its target (unless they also declare its source), afterward all dependencies
+ * are lifted to the concepts declaring their source (unless they also declare their target). The lifted dependencies are computed in memory
+ * from the {@link DeclarationHierarchy} of the dependency ends. The cardinalities are summed per pair of concepts before anything is written,
+ * so that a single relation is written per pair; dependencies of a concept on itself are dropped. The cardinality of a relation is the one of the
+ * current scan, it is never added to a relation of an earlier scan (which would count the dependencies of a re-scanned report twice).
+ * <p>
+ * All statements are anchored at the ids of the concepts of the current scan, so the work does not grow with the concepts of earlier scans in the store.
+ */
 public class DependencyResolver {
 
+    private static final int BATCH_SIZE = 10_000;
+
     public static void resolve(Scanner scanner, List<Dependency> dependencies) {
         ScannerContext context = scanner.getContext();
+        Store store = context.getStore();
         FqnResolver fqnResolver = context.peek(FqnResolver.class);
 
+        DependencyAggregation reported = new DependencyAggregation(true);
+        Set<Long> ends = new HashSet<>();
         for(Dependency dep : dependencies) {
-            TypeScriptDescriptor source = fqnResolver.getByGlobalFqn(dep.getGlobalSourceFQN());
-            TypeScriptDescriptor target = fqnResolver.getByGlobalFqn(dep.getGlobalFqn());
+            Object source = fqnResolver.getIdByGlobalFqn(dep.getGlobalSourceFQN());
+            Object target = fqnResolver.getIdByGlobalFqn(dep.getGlobalFqn());
             if(source != null && target != null) {
-                DependsOnDescriptor relationDescriptor = context.getStore().create(source, DependsOnDescriptor.class, target);
-                relationDescriptor.setCardinality(dep.getCardinality());
+                reported.add(((Number) source).longValue(), ((Number) target).longValue(), dep.getCardinality());
+                ends.add(((Number) source).longValue());
+                ends.add(((Number) target).longValue());
             }
         }
+        Set<Long> scope = new HashSet<>();
+        for(Object id : fqnResolver.getIds()) {
+            scope.add(((Number) id).longValue());
+        }
+        DeclarationHierarchy hierarchy = DeclarationHierarchy.load(ends, scope, store);
 
-        // create missing transitive relationships
-        context.getStore().executeQuery(
-            "MATCH (decl:TS)-[r:DEPENDS_ON]->(trgt:TS)<-[:DECLARES|EXPORTS*]-(trgtParent:TS) " +
-            "WHERE NOT (trgtParent)-[:DECLARES*]->(decl) " +
-            "CREATE (decl)-[:DEPENDS_ON {cardinality: r.cardinality}]->(trgtParent)"
-        );
-        context.getStore().executeQuery(
-            "MATCH (srcParent:TS)-[:DECLARES*]->(decl:TS)-[r:DEPENDS_ON]->(trgt:TS) " +
-            "WHERE NOT (srcParent)-[:DECLARES*]->(trgt) " +
-            "CREATE (srcParent)-[:DEPENDS_ON {cardinality: r.cardinality}]->(trgt)"
-        );
-
-        // aggregate relationships
-        context.getStore().executeQuery(
-            "MATCH (src:TS)-[r:DEPENDS_ON]->(trgt:TS) " +
-            "WITH src, trgt, collect(r) AS rels, sum(r.cardinality) AS new_cardinality " +
-            "WHERE size(rels) > 1 " +
-            "SET (rels[0]).cardinality = new_cardinality " +
-            "WITH src, trgt, rels, new_cardinality " +
-            "UNWIND range(1,size(rels)-1) AS idx " +
-            "DELETE rels[idx]"
-        );
-
-        // remove self-referencing relationships
-        context.getStore().executeQuery(
-            "MATCH (src:TS)-[r:DEPENDS_ON]->(src:TS) " +
-            "DELETE r"
-        );
+        // lift to the concepts declaring or exporting the target, the cardinality counts once per path
+        DependencyAggregation targetLifted = new DependencyAggregation(true);
+        reported.forEach((source, target, cardinality) -> {
+            targetLifted.add(source, target, cardinality);
+            hierarchy.getContainingNodes(target).forEach((targetParent, paths) -> {
+                if(!hierarchy.declares(targetParent, source)) {
+                    targetLifted.add(source, targetParent, cardinality * paths);
+                }
+            });
+        });
+        // lift to the concepts declaring the source
+        DependencyAggregation lifted = new DependencyAggregation(false);
+        targetLifted.forEach((source, target, cardinality) -> {
+            lifted.add(source, target, cardinality);
+            hierarchy.getDeclaringNodes(source).forEach((sourceParent, paths) -> {
+                if(!hierarchy.declares(sourceParent, target)) {
+                    lifted.add(sourceParent, target, cardinality * paths);
+                }
+            });
+        });
+        create(lifted, store);
+    }
+
+    private static void create(DependencyAggregation aggregation, Store store) {
+        List<Map<String, Object>> dependencies = new ArrayList<>(aggregation.size());
+        aggregation.forEach((source, target, cardinality) ->
+            dependencies.add(Map.of("source", source, "target", target, "cardinality", cardinality)));
+        for(int i = 0; i < dependencies.size(); i += BATCH_SIZE) {
+            store.executeQuery(
+                "UNWIND $dependencies AS dependency " +
+                "MATCH (source) WHERE id(source) = dependency.source " +
+                "MATCH (target) WHERE id(target) = dependency.target " +
+                "MERGE (source)-[r:DEPENDS_ON]->(target) " +
+                "SET r.cardinality = dependency.cardinality",
+                Map.of("dependencies", dependencies.subList(i, Math.min(i + BATCH_SIZE, dependencies.size()))));
+        }
     }
 
 }
@@ -1,5 +1,6 @@
 package org.jqassistant.plugin.typescript.impl.mapper.core;
 
+import com.buschmais.jqassistant.core.store.api.Store;
 import lombok.extern.slf4j.Slf4j;
 import org.jqassistant.plugin.typescript.api.model.core.GlobalFqnDescriptor;
 import org.jqassistant.plugin.typescript.api.model.core.TypeDeclaredDescriptor;
@@ -7,57 +8,121 @@ import org.jqassistant.plugin.typescript.api.model.core.TypeScriptDescriptor;
 import org.jqassistant.plugin.typescript.api.model.core.ValueDeclaredDescriptor;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Resolves global FQNs to the concepts declaring them.
+ * <p>
+ * Concepts and the references to be resolved are held by the ids of their nodes, as the mapping may span several transactions (see {@link MappingOptions#getCommitInterval()}).
+ * Descriptors are cached until the transaction is committed, afterward they are loaded again on demand.
+ */
 @Slf4j
 public class FqnResolver {
 
-    private final Map<String, GlobalFqnDescriptor> namedConcepts = new HashMap<>();
+    private static final int BATCH_SIZE = 10_000;
 
-    private final List<TypeDeclaredDescriptor> typeDeclaredListToResolve = new ArrayList<>();
-    private final List<ValueDeclaredDescriptor> valueDeclaredListToResolve = new ArrayList<>();
+    private final Map<String, Object> namedConcepts = new HashMap<>();
+
+    private final Map<Object, TypeScriptDescriptor> descriptors = new HashMap<>();
+
+    private final List<Reference> referencesToResolve = new ArrayList<>();
+
+    private final Store store;
+
+    public FqnResolver(Store store) {
+        this.store = store;
+    }
 
 
     public void registerRef(TypeDeclaredDescriptor descriptor) {
-        typeDeclaredListToResolve.add(descriptor);
+        referencesToResolve.add(new Reference(descriptor.getId(), descriptor.getReferencedGlobalFqn()));
     }
 
     public void registerRef(ValueDeclaredDescriptor descriptor) {
-        valueDeclaredListToResolve.add(descriptor);
+        referencesToResolve.add(new Reference(descriptor.getId(), descriptor.getReferencedGlobalFqn()));
     }
 
 
+    /**
+     * Creates the references of all registered declared types and values whose FQN is known.
+     */
     public void resolveAll() {
-        for(TypeDeclaredDescriptor descriptor : typeDeclaredListToResolve) {
-            descriptor.setReference(getByGlobalFqn(descriptor.getReferencedGlobalFqn()));
+        List<Map<String, Object>> references = new ArrayList<>();
+        for(Reference reference : referencesToResolve) {
+            Object conceptId = reference.globalFqn != null ? namedConcepts.get(reference.globalFqn) : null;
+            if(conceptId != null) {
+                references.add(Map.of("ref", reference.id, "concept", conceptId));
+            }
         }
-
-        for(ValueDeclaredDescriptor descriptor : valueDeclaredListToResolve) {
-            descriptor.setReference(getByGlobalFqn(descriptor.getReferencedGlobalFqn()));
+        for(int i = 0; i < references.size(); i += BATCH_SIZE) {
+            store.executeQuery(
+                "UNWIND $references AS reference " +
+                "MATCH (ref) WHERE id(ref) = reference.ref " +
+                "MATCH (concept) WHERE id(concept) = reference.concept " +
+                "CREATE (ref)-[:REFERENCES]->(concept)",
+                Map.of("references", references.subList(i, Math.min(i + BATCH_SIZE, references.size()))));
         }
     }
 
+    /**
+     * Drops the cached descriptors, to be called when the transaction they belong to has been committed.
+     */
+    public void detach() {
+        descriptors.clear();
+    }
+
 
     public void registerGlobalFqn(GlobalFqnDescriptor concept) {
         if(namedConcepts.containsKey(concept.getGlobalFqn())) {
             log.warn("Language concept with global fully qualified name \"" + concept.getGlobalFqn() + "\" already exists!");
             return;
         }
-        namedConcepts.put(concept.getGlobalFqn(), concept);
+        Object id = concept.getId();
+        namedConcepts.put(concept.getGlobalFqn(), id);
+        descriptors.put(id, (TypeScriptDescriptor) concept);
+    }
+
+    /**
+     * @return the ids of the nodes of all registered concepts, i.e. of the concepts of the current scan
+     */
+    public Collection<Object> getIds() {
+        return namedConcepts.values();
+    }
+
+    /**
+     * @return the id of the node of the concept with the given global FQN, without loading its descriptor
+     */
+    public Object getIdByGlobalFqn(String fqn) {
+        return namedConcepts.get(fqn);
     }
 
     public TypeScriptDescriptor getByGlobalFqn(String fqn) {
-        if(namedConcepts.containsKey(fqn)) {
-            return (TypeScriptDescriptor) namedConcepts.get(fqn);
-        } else {
+        Object id = namedConcepts.get(fqn);
+        if(id == null) {
             return null;
         }
+        return descriptors.computeIfAbsent(id, key -> store.executeQuery("MATCH (n) WHERE id(n) = $id RETURN n", Map.of("id", key))
+            .getSingleResult()
+            .get("n", TypeScriptDescriptor.class));
     }
 
     public void logAll() {
         namedConcepts.keySet().forEach(log::info);
         log.info("Total registered FQNs: " + namedConcepts.keySet().size());
     }
+
+    private static class Reference {
+
+        private final Object id;
+
+        private final String globalFqn;
+
+        private Reference(Object id, String globalFqn) {
+            this.id = id;
+            this.globalFqn = globalFqn;
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package org.jqassistant.plugin.typescript.impl.mapper.core;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Options of the mapping of a report, as configured by the plugin properties.
+ * The scanner plugins push them to the scanner context for the time of a scan.
+ */
+@Getter
+@Setter
+public class MappingOptions {
+
+    /**
+     * Share a single node per structurally identical type within a project (see {@link SharedTypes}).
+     */
+    private boolean sharedTypes;
+
+    /**
+     * Maximum number of literals per project that share a single node (see {@link SharedLiterals}), {@code 0} if literals are not shared.
+     */
+    private int sharedLiterals;
+
+    /**
+     * Number of concepts after which the transaction is committed while a report is mapped, {@code 0} if the report is mapped in a single transaction.
+     * Commits are only done between projects.
+     */
+    private int commitInterval;
+
+    /**
+     * Create the files and directories of a project in bulk from its source file paths, before its modules are mapped.
+     */
+    private boolean bulkFiles;
+
+    /**
+     * Write large type and value trees with a few batched statements instead of node by node (see {@link BulkTreeWriter}).
+     */
+    private boolean bulkTrees;
+
+}
@@ -5,89 +5,74 @@ import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
 import com.buschmais.jqassistant.plugin.common.api.scanner.FileResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.jqassistant.plugin.typescript.api.model.core.*;
-import org.jqassistant.plugin.typescript.impl.model.ConceptCollection;
+import org.jqassistant.plugin.typescript.impl.model.ConceptKind;
+import org.jqassistant.plugin.typescript.impl.model.core.*;
 import org.jqassistant.plugin.typescript.impl.model.core.Module;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 @Slf4j
 public class ModuleMapper {
 
     public static final ModuleMapper INSTANCE = new ModuleMapper();
 
-    public List<ModuleDescriptor> map(ConceptCollection conceptCollection, Scanner scanner) {
+    /**
+     * Maps a module and attaches all declarations of the current project that are located in the module's file.
+     *
+     * @return the module descriptor, or {@code null} if the module file could not be resolved
+     */
+    public ModuleDescriptor map(Module module, Scanner scanner) {
         FileResolver fileResolver = scanner.getContext().peek(FileResolver.class);
-        List<ModuleDescriptor> result = new ArrayList<>();
-
-        scanner.getContext().push(TypeParameterResolver.class, new TypeParameterResolver());
-
-        Map<String, List<ClassDeclarationDescriptor>> classDeclarations = new HashMap<>();
-        ClassDeclarationMapper.INSTANCE.mapList(conceptCollection.getClassDeclarations(), scanner)
-            .forEach(classDeclarationDescriptor -> classDeclarations.merge(classDeclarationDescriptor.getFileName(), new ArrayList<>(List.of(classDeclarationDescriptor)), (o, n) -> {
-                o.addAll(n);
-                return  o;
-            }));
-
-        Map<String, List<InterfaceDeclarationDescriptor>> interfaceDeclarations = new HashMap<>();
-        InterfaceDeclarationMapper.INSTANCE.mapList(conceptCollection.getInterfaceDeclarations(), scanner)
-            .forEach(interfaceDeclarationDescriptor -> interfaceDeclarations.merge(interfaceDeclarationDescriptor.getFileName(), new ArrayList<>(List.of(interfaceDeclarationDescriptor)), (o, n) -> {
-                o.addAll(n);
-                return  o;
-            }));
-
-        Map<String, List<TypeAliasDeclarationDescriptor>> typeAliasDeclarations = new HashMap<>();
-        TypeAliasDeclarationMapper.INSTANCE.mapList(conceptCollection.getTypeAliasDeclarations(), scanner)
-            .forEach(typeAliasDeclarationDescriptor -> typeAliasDeclarations.merge(typeAliasDeclarationDescriptor.getFileName(), new ArrayList<>(List.of(typeAliasDeclarationDescriptor)), (o, n) -> {
-                o.addAll(n);
-                return  o;
-            }));
-
-        Map<String, List<EnumDeclarationDescriptor>> enumDeclarations = new HashMap<>();
-        EnumDeclarationMapper.INSTANCE.mapList(conceptCollection.getEnumDeclarations(), scanner)
-            .forEach(enumDeclarationDescriptor -> enumDeclarations.merge(enumDeclarationDescriptor.getFileName(), new ArrayList<>(List.of(enumDeclarationDescriptor)), (o, n) -> {
-                o.addAll(n);
-                return  o;
-            }));
-
-        Map<String, List<FunctionDeclarationDescriptor>> functionDeclarations = new HashMap<>();
-        FunctionDeclarationMapper.INSTANCE.mapList(conceptCollection.getFunctionDeclarations(), scanner)
-            .forEach(functionDeclarationDescriptor -> functionDeclarations.merge(functionDeclarationDescriptor.getFileName(), new ArrayList<>(List.of(functionDeclarationDescriptor)), (o, n) -> {
-                o.addAll(n);
-                return  o;
-            }));
-
-        Map<String, List<VariableDeclarationDescriptor>> variableDeclarations = new HashMap<>();
-        VariableDeclarationMapper.INSTANCE.mapList(conceptCollection.getVariableDeclarations(), scanner)
-            .forEach(variableDeclarationDescriptor -> variableDeclarations.merge(variableDeclarationDescriptor.getFileName(), new ArrayList<>(List.of(variableDeclarationDescriptor)), (o, n) -> {
-                o.addAll(n);
-                return  o;
-            }));
-
-        for(Module module : conceptCollection.getModules()) {
-            FileDescriptor fileDescriptor = fileResolver.require(module.getPath(), FileDescriptor.class, scanner.getContext());
-            if(fileDescriptor != null) { // only represent modules in the graph that were previously scanned in the file system
-                ModuleDescriptor moduleDescriptor = scanner.getContext().getStore().addDescriptorType(fileDescriptor, ModuleDescriptor.class);
-                moduleDescriptor.setGlobalFqn(module.getGlobalFqn());
-                moduleDescriptor.setLocalFqn(module.getLocalFqn());
+        FileDescriptor fileDescriptor = fileResolver.require(module.getPath(), FileDescriptor.class, scanner.getContext());
+        if(fileDescriptor == null) { // only represent modules in the graph that were previously scanned in the file system
+            return null;
+        }
+        ModuleDescriptor moduleDescriptor = scanner.getContext().getStore().addDescriptorType(fileDescriptor, ModuleDescriptor.class);
+        moduleDescriptor.setGlobalFqn(module.getGlobalFqn());
+        moduleDescriptor.setLocalFqn(module.getLocalFqn());
 
-                moduleDescriptor.getTypeAliasDeclarations().addAll(typeAliasDeclarations.getOrDefault(module.getPath(), new ArrayList<>()));
-                moduleDescriptor.getClassDeclarations().addAll(classDeclarations.getOrDefault(module.getPath(), new ArrayList<>()));
-                moduleDescriptor.getInterfaceDeclarations().addAll(interfaceDeclarations.getOrDefault(module.getPath(), new ArrayList<>()));
-                moduleDescriptor.getEnumDeclarations().addAll(enumDeclarations.getOrDefault(module.getPath(), new ArrayList<>()));
-                moduleDescriptor.getFunctionDeclarations().addAll(functionDeclarations.getOrDefault(module.getPath(), new ArrayList<>()));
-                moduleDescriptor.getVariableDeclarations().addAll(variableDeclarations.getOrDefault(module.getPath(), new ArrayList<>()));
+        scanner.getContext().peek(ProjectContext.class).registerModule(module.getPath(), moduleDescriptor);
+        scanner.getContext().peek(FqnResolver.class).registerGlobalFqn(moduleDescriptor);
+        return moduleDescriptor;
+    }
 
-                scanner.getContext().peek(FqnResolver.class).registerGlobalFqn(moduleDescriptor);
-                result.add(moduleDescriptor);
+    /**
+     * Maps a top-level declaration and attaches it to the module of its file, as soon as that module is known.
+     */
+    public void mapDeclaration(ConceptKind kind, Object declaration, Scanner scanner) {
+        ProjectContext projectContext = scanner.getContext().peek(ProjectContext.class);
+        switch (kind) {
+            case TYPE_ALIAS_DECLARATION: {
+                TypeAliasDeclarationDescriptor descriptor = TypeAliasDeclarationMapper.INSTANCE.toDescriptor((TypeAliasDeclaration) declaration, scanner);
+                projectContext.registerDeclaration(descriptor.getFileName(), m -> m.getTypeAliasDeclarations().add(descriptor));
+                break;
+            }
+            case CLASS_DECLARATION: {
+                ClassDeclarationDescriptor descriptor = ClassDeclarationMapper.INSTANCE.toDescriptor((ClassDeclaration) declaration, scanner);
+                projectContext.registerDeclaration(descriptor.getFileName(), m -> m.getClassDeclarations().add(descriptor));
+                break;
+            }
+            case INTERFACE_DECLARATION: {
+                InterfaceDeclarationDescriptor descriptor = InterfaceDeclarationMapper.INSTANCE.toDescriptor((InterfaceDeclaration) declaration, scanner);
+                projectContext.registerDeclaration(descriptor.getFileName(), m -> m.getInterfaceDeclarations().add(descriptor));
+                break;
+            }
+            case ENUM_DECLARATION: {
+                EnumDeclarationDescriptor descriptor = EnumDeclarationMapper.INSTANCE.toDescriptor((EnumDeclaration) declaration, scanner);
+                projectContext.registerDeclaration(descriptor.getFileName(), m -> m.getEnumDeclarations().add(descriptor));
+                break;
             }
+            case FUNCTION_DECLARATION: {
+                FunctionDeclarationDescriptor descriptor = FunctionDeclarationMapper.INSTANCE.toDescriptor((FunctionDeclaration) declaration, scanner);
+                projectContext.registerDeclaration(descriptor.getFileName(), m -> m.getFunctionDeclarations().add(descriptor));
+                break;
+            }
+            case VARIABLE_DECLARATION: {
+                VariableDeclarationDescriptor descriptor = VariableDeclarationMapper.INSTANCE.toDescriptor((VariableDeclaration) declaration, scanner);
+                projectContext.registerDeclaration(descriptor.getFileName(), m -> m.getVariableDeclarations().add(descriptor));
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Concept kind is not a top-level declaration: " + kind.getId());
         }
-
-        scanner.getContext().pop(TypeParameterResolver.class);
-
-        return result;
     }
 
 }
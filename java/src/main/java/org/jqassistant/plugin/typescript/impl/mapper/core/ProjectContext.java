@@ -0,0 +1,77 @@
+package org.jqassistant.plugin.typescript.impl.mapper.core;
+
+import com.buschmais.jqassistant.plugin.common.api.scanner.FileResolver;
+import lombok.Getter;
+import lombok.Setter;
+import org.jqassistant.plugin.typescript.api.model.core.ModuleDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
+import org.jqassistant.plugin.typescript.impl.model.core.Project;
+import org.jqassistant.plugin.typescript.impl.model.react.ReactComponent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Holds the state of the project that is currently mapped.
+ * Concepts may be handed over in any order, so declarations are attached to their module as soon as both are known.
+ */
+@Getter
+public class ProjectContext {
+
+    private final Project project;
+
+    private final ProjectDescriptor projectDescriptor;
+
+    private final FileResolver fileResolver;
+
+    private final Map<String, ModuleDescriptor> modules = new HashMap<>();
+
+    private final Map<String, List<Consumer<ModuleDescriptor>>> pendingDeclarations = new HashMap<>();
+
+    private final List<ReactComponent> reactComponents = new ArrayList<>();
+
+    /**
+     * {@code null} if types are not shared
+     */
+    private final SharedTypes sharedTypes;
+
+    /**
+     * {@code null} if literals are not shared
+     */
+    private final SharedLiterals sharedLiterals;
+
+    /**
+     * {@code true} while a type or value tree that has been flattened by the {@link BulkTreeWriter} is mapped node by node
+     */
+    @Setter
+    private boolean nodeByNode;
+
+    public ProjectContext(Project project, ProjectDescriptor projectDescriptor, FileResolver fileResolver, MappingOptions options) {
+        this.project = project;
+        this.projectDescriptor = projectDescriptor;
+        this.fileResolver = fileResolver;
+        this.sharedTypes = options.isSharedTypes() ? new SharedTypes() : null;
+        this.sharedLiterals = options.getSharedLiterals() > 0 ? new SharedLiterals(options.getSharedLiterals()) : null;
+    }
+
+    public void registerModule(String path, ModuleDescriptor moduleDescriptor) {
+        modules.put(path, moduleDescriptor);
+        List<Consumer<ModuleDescriptor>> pending = pendingDeclarations.remove(path);
+        if (pending != null) {
+            pending.forEach(declaration -> declaration.accept(moduleDescriptor));
+        }
+    }
+
+    public void registerDeclaration(String fileName, Consumer<ModuleDescriptor> declaration) {
+        ModuleDescriptor moduleDescriptor = modules.get(fileName);
+        if (moduleDescriptor != null) {
+            declaration.accept(moduleDescriptor);
+        } else {
+            pendingDeclarations.computeIfAbsent(fileName, key -> new ArrayList<>()).add(declaration);
+        }
+    }
+
+}
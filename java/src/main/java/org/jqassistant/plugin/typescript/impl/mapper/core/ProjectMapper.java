@@ -2,98 +2,233 @@ package org.jqassistant.plugin.typescript.impl.mapper.core;
 
 import com.buschmais.jqassistant.core.scanner.api.Scanner;
 import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
 import com.buschmais.jqassistant.plugin.common.api.scanner.FileResolver;
+import org.jqassistant.plugin.typescript.api.model.core.ExternalModuleDescriptor;
 import org.jqassistant.plugin.typescript.api.model.core.LocalFileDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ModuleDescriptor;
 import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
 import org.jqassistant.plugin.typescript.impl.filesystem.LocalFileResolver;
 import org.jqassistant.plugin.typescript.impl.mapper.react.ReactComponentResolver;
+import org.jqassistant.plugin.typescript.impl.model.ConceptCollection;
+import org.jqassistant.plugin.typescript.impl.model.ConceptKind;
+import org.jqassistant.plugin.typescript.impl.model.core.Dependency;
+import org.jqassistant.plugin.typescript.impl.model.core.ExportDeclaration;
+import org.jqassistant.plugin.typescript.impl.model.core.ExternalModule;
+import org.jqassistant.plugin.typescript.impl.model.core.Module;
 import org.jqassistant.plugin.typescript.impl.model.core.Project;
+import org.jqassistant.plugin.typescript.impl.model.react.ReactComponent;
 
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-
+import java.util.Map;
+
+/**
+ * Maps the projects of a report, one concept at a time:
+ * {@link #begin(Scanner)}, then per project {@link #beginProject(Project, Scanner)}, {@link #mapConcept(ConceptKind, Object, Scanner)} for each concept
+ * (or {@link #mapConcepts(ConceptCollection, Scanner)} for a fully deserialized project) and {@link #endProject(Scanner)}, and finally {@link #end(Scanner)}.
+ * Projects that are still suspended when {@link #end(Scanner)} is called are ended implicitly.
+ */
 public class ProjectMapper {
 
     public static final ProjectMapper INSTANCE = new ProjectMapper();
 
-    public List<ProjectDescriptor> map(List<Project> projects, Scanner scanner) {
-        List<ProjectDescriptor> result = new ArrayList<>();
-
+    /**
+     * @return the context of the report, which still holds the statistics of the mapping once it has ended
+     */
+    public ReportContext begin(Scanner scanner) {
         // 1. determine all independent root directories (exclude contained ones)
         // 2. scan determined directories while ignoring node_modules directory
 
-
         ScannerContext context = scanner.getContext();
-        context.push(FqnResolver.class, new FqnResolver());
+        context.push(FqnResolver.class, new FqnResolver(context.getStore()));
+        ReportContext reportContext = new ReportContext();
+        context.push(ReportContext.class, reportContext);
+        return reportContext;
+    }
 
+    /**
+     * Maps the project itself, i.e. its root directory and config file. The project's concepts are expected to be handed over afterward.
+     * Only the path information of the given project is used, the sub-project paths may still be set until {@link #endProject(Scanner)} is called.
+     */
+    public ProjectDescriptor beginProject(Project project, Scanner scanner) {
+        ScannerContext context = scanner.getContext();
+        LocalFileResolver fileResolver = new LocalFileResolver(Paths.get(project.getRootPath()));
+        context.push(FileResolver.class, fileResolver);
+        if (context.peek(MappingOptions.class).isBulkFiles()) {
+            List<String> paths = new ArrayList<>();
+            paths.add(project.getRootPath());
+            paths.add(project.getConfigPath());
+            if (project.getSourceFilePaths() != null) {
+                paths.addAll(project.getSourceFilePaths());
+            }
+            fileResolver.createAll(paths, context);
+        }
 
-        for (var project : projects) {
-            FileResolver fileResolver = new LocalFileResolver(Paths.get(project.getRootPath()));
-            scanner.getContext().push(FileResolver.class, fileResolver);
+        ProjectDescriptor projectDescriptor = context.getStore().create(ProjectDescriptor.class);
 
-            ProjectDescriptor projectDescriptor = scanner.getContext().getStore().create(ProjectDescriptor.class);
+        LocalFileDescriptor rootDirDescriptor = fileResolver.require(project.getRootPath(), LocalFileDescriptor.class, context);
+        projectDescriptor.setRootDirectory(rootDirDescriptor);
 
-            LocalFileDescriptor rootDirDescriptor = fileResolver.require(project.getRootPath(), LocalFileDescriptor.class, scanner.getContext());
-            projectDescriptor.setRootDirectory(rootDirDescriptor);
+        LocalFileDescriptor configFileDescriptor = fileResolver.require(project.getConfigPath(), LocalFileDescriptor.class, context);
+        projectDescriptor.setConfigFile(configFileDescriptor);
 
-            LocalFileDescriptor configFileDescriptor = fileResolver.require(project.getConfigPath(), LocalFileDescriptor.class, scanner.getContext());
-            projectDescriptor.setConfigFile(configFileDescriptor);
+        context.peek(ReportContext.class).getProjects().put(configFileDescriptor.getAbsoluteFileName(), projectDescriptor.getId());
 
-            projectDescriptor.getModules().addAll(
-                ModuleMapper.INSTANCE.map(project.getConcepts(), scanner)
-            );
-            projectDescriptor.getExternalModules().addAll(
-                ExternalModuleMapper.INSTANCE.map(project.getConcepts(), scanner)
-            );
+        context.push(ProjectContext.class, new ProjectContext(project, projectDescriptor, fileResolver, context.peek(MappingOptions.class)));
+        context.push(TypeParameterResolver.class, new TypeParameterResolver());
+        return projectDescriptor;
+    }
 
-            ReactComponentResolver.resolve(scanner, project.getConcepts().getReactComponents());
+    /**
+     * Interrupts the mapping of the current project, so that concepts of another project can be mapped in between.
+     */
+    public void suspendProject(Scanner scanner) {
+        ScannerContext context = scanner.getContext();
+        context.pop(TypeParameterResolver.class);
+        ProjectContext projectContext = context.pop(ProjectContext.class);
+        context.pop(FileResolver.class);
+        context.peek(ReportContext.class).getSuspendedProjects().put(projectContext.getProject().getConfigPath(), projectContext);
+    }
 
-            result.add(projectDescriptor);
-            scanner.getContext().pop(FileResolver.class);
+    /**
+     * Continues the mapping of a project that was previously suspended via {@link #suspendProject(Scanner)}.
+     *
+     * @param configPath the config path of the project as given in the report
+     * @return {@code false} if there is no suspended project with the given config path
+     */
+    public boolean resumeProject(String configPath, Scanner scanner) {
+        ScannerContext context = scanner.getContext();
+        ProjectContext projectContext = context.peek(ReportContext.class).getSuspendedProjects().remove(configPath);
+        if (projectContext == null) {
+            return false;
         }
+        context.push(FileResolver.class, projectContext.getFileResolver());
+        context.push(ProjectContext.class, projectContext);
+        context.push(TypeParameterResolver.class, new TypeParameterResolver());
+        return true;
+    }
 
-        // Set references projects and transitively add source files
-        for (ProjectDescriptor projectDescriptor : result) {
-            Optional<Project> projectOpt = projects.stream()
-                .filter(p -> {
-                    var configFilePath = projectDescriptor.getConfigFile().getAbsoluteFileName();
-                    return configFilePath.equals(p.getConfigPath());
-                })
-                .findFirst();
-            if (projectOpt.isPresent()) {
-                Project project = projectOpt.get();
-
-                project.getSubProjectPaths().forEach(spp -> {
-                    Optional<ProjectDescriptor> subprojectDescriptorOpt = result.stream()
-                        .filter(pd -> pd.getConfigFile().getAbsoluteFileName().equals(spp))
-                        .findFirst();
-
-                    if (subprojectDescriptorOpt.isPresent()) {
-                        projectDescriptor.getReferencedProjects().add(subprojectDescriptorOpt.get());
-                    } else {
-                        throw new IllegalStateException("Could not find project descriptor for project path: " + spp);
-                    }
-                });
-
-            } else {
-                throw new IllegalStateException("Could not find project for config file path: " + projectDescriptor.getConfigFile().getFileName());
+    public void mapConcepts(ConceptCollection concepts, Scanner scanner) {
+        if (concepts == null) {
+            return;
+        }
+        for (ConceptKind kind : ConceptKind.values()) {
+            for (Object concept : kind.getConcepts().apply(concepts)) {
+                mapConcept(kind, concept, scanner);
             }
         }
+    }
+
+    /**
+     * Maps a single concept of the current project.
+     * Concepts that reference declarations by their FQN are kept until all declarations have been mapped.
+     */
+    public void mapConcept(ConceptKind kind, Object concept, Scanner scanner) {
+        ScannerContext context = scanner.getContext();
+        ProjectContext projectContext = context.peek(ProjectContext.class);
+        switch (kind) {
+            case MODULE:
+                ModuleDescriptor moduleDescriptor = ModuleMapper.INSTANCE.map((Module) concept, scanner);
+                if (moduleDescriptor != null) {
+                    projectContext.getProjectDescriptor().getModules().add(moduleDescriptor);
+                }
+                break;
+            case EXTERNAL_MODULE:
+                ExternalModuleDescriptor externalModuleDescriptor = ExternalModuleMapper.INSTANCE.map((ExternalModule) concept, scanner);
+                projectContext.getProjectDescriptor().getExternalModules().add(externalModuleDescriptor);
+                break;
+            case EXPORT_DECLARATION:
+                context.peek(ReportContext.class).getExportDeclarations().add((ExportDeclaration) concept);
+                break;
+            case DEPENDENCY:
+                context.peek(ReportContext.class).getDependencies().add((Dependency) concept);
+                break;
+            case REACT_COMPONENT:
+                projectContext.getReactComponents().add((ReactComponent) concept);
+                break;
+            default:
+                ModuleMapper.INSTANCE.mapDeclaration(kind, concept, scanner);
+        }
+        context.peek(ReportContext.class).conceptMapped();
+    }
 
-        DependencyResolver.resolve(scanner, projects.stream()
-            .flatMap(p -> p.getConcepts().getDependencies().stream())
-            .collect(Collectors.toList()));
-        ExportDeclarationResolver.resolve(scanner, projects.stream()
-            .flatMap(p -> p.getConcepts().getExportDeclarations().stream())
-            .collect(Collectors.toList()));
+    public void endProject(Scanner scanner) {
+        ScannerContext context = scanner.getContext();
+        context.pop(TypeParameterResolver.class);
+        ProjectContext projectContext = context.pop(ProjectContext.class);
 
-        context.pop(FqnResolver.class).resolveAll();
+        ReactComponentResolver.resolve(scanner, projectContext.getReactComponents());
+
+        context.peek(ReportContext.class).getSubProjectPaths().put(
+            projectContext.getProjectDescriptor().getConfigFile().getAbsoluteFileName(),
+            projectContext.getProject().getSubProjectPaths()
+        );
 
+        context.pop(FileResolver.class);
+        commitIfDue(context);
+    }
+
+    /**
+     * Commits the transaction and clears the XO cache once at least {@link MappingOptions#getCommitInterval()} concepts have been mapped since the last commit,
+     * so that neither the transaction state nor the cache grow with the whole report.
+     * <p>
+     * Commits are only done between projects while no project is suspended: the descriptors held by a {@link ProjectContext} (modules, shared types and literals,
+     * type parameters, files of its {@link LocalFileResolver}) are only valid within the transaction they have been loaded in.
+     * The state that outlives a commit is held by ids ({@link FqnResolver}, {@link ReportContext#getProjects()}) or reloaded afterward (files, current descriptor).
+     */
+    private void commitIfDue(ScannerContext context) {
+        int commitInterval = context.peek(MappingOptions.class).getCommitInterval();
+        ReportContext reportContext = context.peek(ReportContext.class);
+        if (commitInterval <= 0 || reportContext.getMappedConcepts() < commitInterval || !reportContext.getSuspendedProjects().isEmpty()) {
+            return;
+        }
+        Store store = context.getStore();
+        Object currentDescriptorId = context.getCurrentDescriptor().getId();
+        store.flush();
+        store.commitTransaction();
+        store.getXOManager().clear();
+        store.beginTransaction();
+        reportContext.committed();
+        context.peek(FqnResolver.class).detach();
+        LocalFileResolver.detach(store);
+        context.setCurrentDescriptor(store.getXOManager().findById(FileDescriptor.class, currentDescriptorId));
+    }
+
+    public List<ProjectDescriptor> end(Scanner scanner) {
+        ScannerContext context = scanner.getContext();
+        for (String configPath : new ArrayList<>(context.peek(ReportContext.class).getSuspendedProjects().keySet())) {
+            resumeProject(configPath, scanner);
+            endProject(scanner);
+        }
+
+        ReportContext reportContext = context.pop(ReportContext.class);
+        Store store = context.getStore();
+        Map<String, ProjectDescriptor> projects = new LinkedHashMap<>();
+        reportContext.getProjects().forEach((configPath, id) -> projects.put(configPath, store.getXOManager().findById(ProjectDescriptor.class, id)));
+
+        // Set references projects and transitively add source files
+        reportContext.getSubProjectPaths().forEach((configPath, subProjectPaths) -> {
+            ProjectDescriptor projectDescriptor = projects.get(configPath);
+            subProjectPaths.forEach(spp -> {
+                ProjectDescriptor subprojectDescriptor = projects.get(spp);
+                if (subprojectDescriptor != null) {
+                    projectDescriptor.getReferencedProjects().add(subprojectDescriptor);
+                } else {
+                    throw new IllegalStateException("Could not find project descriptor for project path: " + spp);
+                }
+            });
+        });
+
+        DependencyResolver.resolve(scanner, reportContext.getDependencies());
+        ExportDeclarationResolver.resolve(scanner, reportContext.getExportDeclarations());
+
+        context.pop(FqnResolver.class).resolveAll();
 
-        return result;
+        return new ArrayList<>(projects.values());
     }
 
 }
@@ -0,0 +1,57 @@
+package org.jqassistant.plugin.typescript.impl.mapper.core;
+
+import lombok.Getter;
+import org.jqassistant.plugin.typescript.impl.model.core.Dependency;
+import org.jqassistant.plugin.typescript.impl.model.core.ExportDeclaration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the state of the report that is currently mapped.
+ * Collects all concepts that can only be resolved after the declarations of all projects are known.
+ */
+@Getter
+public class ReportContext {
+
+    /**
+     * ids of the project descriptors by the absolute path of their config file (the mapping of a report may span several transactions)
+     */
+    private final Map<String, Object> projects = new LinkedHashMap<>();
+
+    /**
+     * config file paths of the referenced projects by the absolute path of the referencing project's config file
+     */
+    private final Map<String, List<String>> subProjectPaths = new LinkedHashMap<>();
+
+    /**
+     * projects whose mapping has been interrupted by concepts of another project, by the config path given in the report
+     */
+    private final Map<String, ProjectContext> suspendedProjects = new LinkedHashMap<>();
+
+    private final List<Dependency> dependencies = new ArrayList<>();
+
+    private final List<ExportDeclaration> exportDeclarations = new ArrayList<>();
+
+    /**
+     * number of concepts mapped since the last commit
+     */
+    private int mappedConcepts;
+
+    /**
+     * number of commits done while the report has been mapped
+     */
+    private int commits;
+
+    public void conceptMapped() {
+        mappedConcepts++;
+    }
+
+    public void committed() {
+        mappedConcepts = 0;
+        commits++;
+    }
+
+}
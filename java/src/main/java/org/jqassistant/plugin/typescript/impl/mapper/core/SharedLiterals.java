@@ -0,0 +1,59 @@
+package org.jqassistant.plugin.typescript.impl.mapper.core;
+
+import org.jqassistant.plugin.typescript.api.model.core.ValueLiteralDescriptor;
+import org.jqassistant.plugin.typescript.impl.model.core.ValueLiteral;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shares a single node per literal value and type within a project, instead of creating a new node (and type) for every occurrence of a literal.
+ * <p>
+ * The shared nodes are held in a cache of bounded size, evicting the least recently used literal. Eviction only depends on the order in which
+ * the literals of a project are mapped, which is the order of the report, so that the same report always results in the same graph.
+ * A shared literal has an incoming relation for each of its occurrences (e.g. being contained in several arrays).
+ */
+public class SharedLiterals {
+
+    private final Map<String, ValueLiteralDescriptor> literals;
+
+    /**
+     * Only used for the keys of the literal types.
+     */
+    private final SharedTypes typeKeys = new SharedTypes();
+
+    /**
+     * @param capacity maximum number of shared literals held at once
+     */
+    public SharedLiterals(int capacity) {
+        this.literals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ValueLiteralDescriptor> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @param mapper creates the node of the literal if there is no shared node for it
+     * @return the shared node of the literal, or the node created by the mapper if the type of the literal can't be shared
+     */
+    public ValueLiteralDescriptor resolve(ValueLiteral literal, TypeParameterResolver typeParameterResolver, Supplier<ValueLiteralDescriptor> mapper) {
+        String typeKey = literal.getType() != null ? typeKeys.key(literal.getType(), typeParameterResolver) : "~";
+        if (typeKey == null) {
+            return mapper.get();
+        }
+        Object value = literal.getValue();
+        String text = value.toString();
+        // length-prefixed, so that the key is unambiguous whatever characters the value contains
+        String key = value.getClass().getSimpleName() + text.length() + ':' + text + typeKey;
+        ValueLiteralDescriptor descriptor = literals.get(key);
+        if (descriptor == null) {
+            descriptor = mapper.get();
+            literals.put(key, descriptor);
+        }
+        return descriptor;
+    }
+
+}
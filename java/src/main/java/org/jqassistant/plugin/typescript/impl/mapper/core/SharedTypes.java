@@ -0,0 +1,169 @@
+package org.jqassistant.plugin.typescript.impl.mapper.core;
+
+import org.jqassistant.plugin.typescript.api.model.core.TypeDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeParameterDeclarationDescriptor;
+import org.jqassistant.plugin.typescript.impl.model.core.*;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shares a single node per structurally identical type within a project, instead of creating a new subgraph at every usage of a type.
+ * <p>
+ * Types are identified by a structural key, made up of their kind, names, referenced FQNs and the keys of their children.
+ * Each distinct key is numbered, and a key refers to its children by their numbers, so that it only grows with the direct children of a type,
+ * and the keys of the children computed for a type are memoized until the type has been resolved, as the children are resolved while it is mapped.
+ * Type parameter references depend on the type parameters in scope, so their key contains the id of the type parameter declaration they are resolved to.
+ * Function types declare type parameters of their own, so they (and the types containing them) are never shared.
+ * <p>
+ * As a consequence, a shared type may have several incoming relations of the same kind (e.g. being the type argument of several declared types).
+ */
+public class SharedTypes {
+
+    /**
+     * Memoized key of types that can't be shared.
+     */
+    private static final String NOT_SHARED = "";
+
+    private final Map<String, TypeDescriptor> types = new HashMap<>();
+
+    private final Map<String, Integer> keyNumbers = new HashMap<>();
+
+    private final Map<Type, String> resolvedKeys = new IdentityHashMap<>();
+
+    private int resolving;
+
+    /**
+     * @param mapper maps the type if there is no shared node for it (yet)
+     * @return the shared node of the type, or the node created by the mapper if the type can't be shared
+     */
+    public TypeDescriptor resolve(Type type, TypeParameterResolver typeParameterResolver, Supplier<TypeDescriptor> mapper) {
+        resolving++;
+        try {
+            String typeKey = type != null ? key(type, typeParameterResolver) : null;
+            if (typeKey == null) {
+                return mapper.get();
+            }
+            TypeDescriptor descriptor = types.get(typeKey);
+            if (descriptor == null) {
+                // not computeIfAbsent: the mapper resolves the children of the type recursively
+                descriptor = mapper.get();
+                if (descriptor != null) {
+                    types.put(typeKey, descriptor);
+                }
+            }
+            return descriptor;
+        } finally {
+            if (--resolving == 0) {
+                resolvedKeys.clear();
+            }
+        }
+    }
+
+    /**
+     * @return the structural key of the type, or {@code null} if the type can't be shared
+     */
+    String key(Type type, TypeParameterResolver typeParameterResolver) {
+        String memoizedKey = resolvedKeys.get(type);
+        if (memoizedKey != null) {
+            return memoizedKey.isEmpty() ? null : memoizedKey;
+        }
+        StringBuilder key = new StringBuilder();
+        String typeKey = appendKey(type, typeParameterResolver, key) ? key.toString() : null;
+        if (resolving > 0) {
+            resolvedKeys.put(type, typeKey != null ? typeKey : NOT_SHARED);
+        }
+        return typeKey;
+    }
+
+    /**
+     * @return {@code false} if the type can't be shared
+     */
+    private boolean appendKey(Type type, TypeParameterResolver typeParameterResolver, StringBuilder key) {
+        if (type instanceof TypePrimitive) {
+            appendText(key.append("primitive"), ((TypePrimitive) type).getName());
+            return true;
+        } else if (type instanceof TypeDeclared) {
+            appendText(key.append("declared"), ((TypeDeclared) type).getGlobalFqn());
+            return appendChildKeys(((TypeDeclared) type).getTypeArguments(), typeParameterResolver, key);
+        } else if (type instanceof TypeUnion) {
+            return appendChildKeys(((TypeUnion) type).getTypes(), typeParameterResolver, key.append("union"));
+        } else if (type instanceof TypeIntersection) {
+            return appendChildKeys(((TypeIntersection) type).getTypes(), typeParameterResolver, key.append("intersection"));
+        } else if (type instanceof TypeObject) {
+            key.append("object{");
+            for (TypeObjectMember member : ((TypeObject) type).getMembers()) {
+                appendText(key, member.getName());
+                key.append(member.getOptional()).append(member.getReadonly());
+                if (!appendChildKey(member.getType(), typeParameterResolver, key)) {
+                    return false;
+                }
+            }
+            key.append('}');
+            return true;
+        } else if (type instanceof TypeLiteral) {
+            Object value = ((TypeLiteral) type).getValue();
+            appendText(key.append("literal"), value != null ? value.getClass().getSimpleName() + value : null);
+            return true;
+        } else if (type instanceof TypeTuple) {
+            return appendChildKeys(((TypeTuple) type).getTypes(), typeParameterResolver, key.append("tuple"));
+        } else if (type instanceof TypeNotIdentified) {
+            appendText(key.append("not-identified"), ((TypeNotIdentified) type).getIdentifier());
+            return true;
+        } else if (type instanceof TypeParameterReference) {
+            String name = ((TypeParameterReference) type).getName();
+            TypeParameterDeclarationDescriptor declaration = typeParameterResolver.resolveParameter(name);
+            appendText(key.append("type-parameter"), name);
+            if (declaration != null) {
+                Object declarationId = declaration.getId();
+                key.append('#').append(declarationId);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Appends the number of the child's key.
+     *
+     * @return {@code false} if the child can't be shared
+     */
+    private boolean appendChildKey(Type child, TypeParameterResolver typeParameterResolver, StringBuilder key) {
+        if (child == null) {
+            key.append('~');
+            return true;
+        }
+        String childKey = key(child, typeParameterResolver);
+        if (childKey == null) {
+            return false;
+        }
+        key.append(keyNumbers.computeIfAbsent(childKey, k -> keyNumbers.size())).append(';');
+        return true;
+    }
+
+    private boolean appendChildKeys(List<Type> types, TypeParameterResolver typeParameterResolver, StringBuilder key) {
+        key.append('[');
+        for (Type type : types) {
+            if (!appendChildKey(type, typeParameterResolver, key)) {
+                return false;
+            }
+        }
+        key.append(']');
+        return true;
+    }
+
+    /**
+     * Appends the text prefixed by its length, so that the keys are unambiguous whatever characters the text contains.
+     */
+    private static void appendText(StringBuilder key, String text) {
+        if (text == null) {
+            key.append('-');
+        } else {
+            key.append(text.length()).append(':').append(text);
+        }
+    }
+
+}
@@ -14,7 +14,21 @@ import java.util.stream.Collectors;
 @Mapper
 public interface TypeMapper extends DescriptorMapper<Type, TypeDescriptor> {
 
+    /**
+     * Resolves the shared node of the type if types are shared (see {@link SharedTypes}).
+     * Otherwise, large type trees may be written in bulk (see {@link BulkTreeWriter}), all others are mapped node by node.
+     */
     @Override
+    default TypeDescriptor toDescriptor(Type value, @Context Scanner scanner) {
+        ScannerContext context = scanner.getContext();
+        SharedTypes sharedTypes = context.peek(ProjectContext.class).getSharedTypes();
+        if (sharedTypes != null) {
+            return sharedTypes.resolve(value, context.peek(TypeParameterResolver.class), () -> mapType(value, scanner));
+        }
+        return BulkTreeWriter.write(value, scanner, () -> mapType(value, scanner));
+    }
+
+    @Named("mapType")
     @SubclassMapping(source = TypePrimitive.class, target = TypePrimitiveDescriptor.class)
     @SubclassMapping(source = TypeDeclared.class, target = TypeDeclaredDescriptor.class)
     @SubclassMapping(source = TypeUnion.class, target = TypeUnionDescriptor.class)
@@ -28,7 +42,7 @@ public interface TypeMapper extends DescriptorMapper<Type, TypeDescriptor> {
     @Mapping(target = "dependents", ignore = true)
     @Mapping(target = "dependencies", ignore = true)
     @Mapping(target = "exporters", ignore = true)
-    TypeDescriptor toDescriptor(Type value, @Context Scanner scanner);
+    TypeDescriptor mapType(Type value, @Context Scanner scanner);
 
     default List<TypeDescriptor> mapList(List<Type> value, @Context Scanner scanner) {
         return value.stream()
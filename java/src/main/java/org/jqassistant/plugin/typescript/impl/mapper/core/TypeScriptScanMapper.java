@@ -2,6 +2,7 @@ package org.jqassistant.plugin.typescript.impl.mapper.core;
 
 import com.buschmais.jqassistant.core.scanner.api.Scanner;
 import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
 import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
 import org.jqassistant.plugin.typescript.impl.model.core.Project;
 
@@ -12,10 +13,29 @@ public class TypeScriptScanMapper {
     public static final TypeScriptScanMapper INSTANCE = new TypeScriptScanMapper();
 
     public TypeScriptScanDescriptor map(List<Project> projects, Scanner scanner) {
+        ReportContext reportContext = ProjectMapper.INSTANCE.begin(scanner);
+        for (var project : projects) {
+            ProjectMapper.INSTANCE.beginProject(project, scanner);
+            ProjectMapper.INSTANCE.mapConcepts(project.getConcepts(), scanner);
+            ProjectMapper.INSTANCE.endProject(scanner);
+        }
+        return toScanDescriptor(ProjectMapper.INSTANCE.end(scanner), reportContext, scanner);
+    }
+
+    /**
+     * Turns the currently scanned file into the scan descriptor, to which the mapped projects are added.
+     * Has to be called after the projects have been mapped, as the mapping may commit the transaction (see {@link MappingOptions#getCommitInterval()}).
+     *
+     * @param reportContext the context returned by {@link ProjectMapper#begin(Scanner)}
+     */
+    public TypeScriptScanDescriptor toScanDescriptor(List<ProjectDescriptor> projects, ReportContext reportContext, Scanner scanner) {
         FileDescriptor fileDescriptor = scanner.getContext().getCurrentDescriptor();
-        TypeScriptScanDescriptor result = scanner.getContext().getStore().addDescriptorType(fileDescriptor, TypeScriptScanDescriptor.class);
-        result.getProjects().addAll(ProjectMapper.INSTANCE.map(projects, scanner));
-        return result;
+        TypeScriptScanDescriptor scanDescriptor = scanner.getContext().getStore().addDescriptorType(fileDescriptor, TypeScriptScanDescriptor.class);
+        scanDescriptor.getProjects().addAll(projects);
+        if (reportContext.getCommits() > 0) {
+            scanDescriptor.setCommits(reportContext.getCommits());
+        }
+        return scanDescriptor;
     }
 
 }
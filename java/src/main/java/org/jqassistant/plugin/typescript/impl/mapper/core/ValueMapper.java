@@ -15,7 +15,17 @@ import java.util.stream.Collectors;
 @Mapper(uses = {TypeMapper.class})
 public interface ValueMapper extends DescriptorMapper<Value, ValueDescriptor> {
 
+    /**
+     * Deserializes {@link LazyValue}s before they are mapped, so that their subtree only exists while its descriptors are created.
+     * Large value trees may be written in bulk (see {@link BulkTreeWriter}), all others are mapped node by node.
+     */
     @Override
+    default ValueDescriptor toDescriptor(Value value, @Context Scanner scanner) {
+        Value materializedValue = LazyValue.materialize(value);
+        return BulkTreeWriter.write(materializedValue, scanner, () -> mapValue(materializedValue, scanner));
+    }
+
+    @Named("mapValue")
     @SubclassMapping(source = ValueNull.class, target = ValueNullDescriptor.class)
     @SubclassMapping(source = ValueLiteral.class, target = ValueLiteralDescriptor.class)
     @SubclassMapping(source = ValueDeclared.class, target = ValueDeclaredDescriptor.class)
@@ -29,7 +39,7 @@ public interface ValueMapper extends DescriptorMapper<Value, ValueDescriptor> {
     @Mapping(target = "dependents", ignore = true)
     @Mapping(target = "dependencies", ignore = true)
     @Mapping(target = "exporters", ignore = true)
-    ValueDescriptor toDescriptor(Value value, @Context Scanner scanner);
+    ValueDescriptor mapValue(Value value, @Context Scanner scanner);
 
     default List<ValueDescriptor> mapList(List<Value> value, @Context Scanner scanner) {
         return value.stream()
@@ -42,10 +52,23 @@ public interface ValueMapper extends DescriptorMapper<Value, ValueDescriptor> {
     @Mapping(target = "exporters", ignore = true)
     ValueNullDescriptor mapValueNull(ValueNull value, @Context Scanner scanner);
 
+    /**
+     * Resolves the shared node of the literal if literals are shared (see {@link SharedLiterals}).
+     */
     default ValueLiteralDescriptor mapValueLiteral(ValueLiteral value, @Context Scanner scanner) {
         if(value == null || value.getValue() == null) {
             return null;
         }
+        ScannerContext scannerContext = scanner.getContext();
+        SharedLiterals sharedLiterals = scannerContext.peek(ProjectContext.class).getSharedLiterals();
+        if(sharedLiterals != null) {
+            return sharedLiterals.resolve(value, scannerContext.peek(TypeParameterResolver.class), () -> createValueLiteral(value, scanner));
+        }
+        return createValueLiteral(value, scanner);
+    }
+
+    @Named("createValueLiteral")
+    default ValueLiteralDescriptor createValueLiteral(ValueLiteral value, @Context Scanner scanner) {
         ScannerContext scannerContext = scanner.getContext();
         ValueLiteralDescriptor descriptor = scannerContext.getStore().create(ValueLiteralDescriptor.class);
 
@@ -0,0 +1,50 @@
+package org.jqassistant.plugin.typescript.impl.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jqassistant.plugin.typescript.impl.model.core.Module;
+import org.jqassistant.plugin.typescript.impl.model.core.*;
+import org.jqassistant.plugin.typescript.impl.model.react.ReactComponent;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Kinds of concepts contained in the report, identified by the concept ids used by the LCE tool.
+ * The declaration order is the order in which the concepts of a {@link ConceptCollection} are mapped.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ConceptKind {
+
+    TYPE_ALIAS_DECLARATION("type-alias-declaration", TypeAliasDeclaration.class, ConceptCollection::getTypeAliasDeclarations),
+    CLASS_DECLARATION("class-declaration", ClassDeclaration.class, ConceptCollection::getClassDeclarations),
+    INTERFACE_DECLARATION("interface-declaration", InterfaceDeclaration.class, ConceptCollection::getInterfaceDeclarations),
+    ENUM_DECLARATION("enum-declaration", EnumDeclaration.class, ConceptCollection::getEnumDeclarations),
+    FUNCTION_DECLARATION("function-declaration", FunctionDeclaration.class, ConceptCollection::getFunctionDeclarations),
+    VARIABLE_DECLARATION("variable-declaration", VariableDeclaration.class, ConceptCollection::getVariableDeclarations),
+    MODULE("module", Module.class, ConceptCollection::getModules),
+    EXTERNAL_MODULE("external-module", ExternalModule.class, ConceptCollection::getExternalModules),
+    EXPORT_DECLARATION("export-declaration", ExportDeclaration.class, ConceptCollection::getExportDeclarations),
+    DEPENDENCY("dependency", Dependency.class, ConceptCollection::getDependencies),
+    REACT_COMPONENT("react-component", ReactComponent.class, ConceptCollection::getReactComponents);
+
+    private final String id;
+
+    private final Class<?> type;
+
+    private final Function<ConceptCollection, List<?>> concepts;
+
+    /**
+     * @return the kind with the given concept id, or {@code null} if the id is unknown
+     */
+    public static ConceptKind byId(String id) {
+        for (ConceptKind kind : values()) {
+            if (kind.id.equals(id)) {
+                return kind;
+            }
+        }
+        return null;
+    }
+
+}
@@ -4,19 +4,75 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
-@Getter
-@Setter
-@ToString
+/**
+ * Position of a concept within its source file.
+ * Line and column of the start and end position are packed into a single {@code long} each (line in the upper, column in the lower 32 bits),
+ * so that no boxed values are allocated for the coordinates of every declaration.
+ */
+@ToString(onlyExplicitlyIncluded = true)
 public class CodeCoordinates {
 
+    private static final long COLUMN_MASK = 0xFFFFFFFFL;
+
+    @Getter
+    @Setter
+    @ToString.Include
     private String fileName;
 
-    private Integer startLine;
+    private long start;
+
+    private long end;
+
+    @ToString.Include
+    public int getStartLine() {
+        return line(start);
+    }
+
+    public void setStartLine(int startLine) {
+        start = withLine(start, startLine);
+    }
+
+    @ToString.Include
+    public int getStartColumn() {
+        return column(start);
+    }
+
+    public void setStartColumn(int startColumn) {
+        start = withColumn(start, startColumn);
+    }
+
+    @ToString.Include
+    public int getEndLine() {
+        return line(end);
+    }
+
+    public void setEndLine(int endLine) {
+        end = withLine(end, endLine);
+    }
+
+    @ToString.Include
+    public int getEndColumn() {
+        return column(end);
+    }
+
+    public void setEndColumn(int endColumn) {
+        end = withColumn(end, endColumn);
+    }
+
+    private static int line(long position) {
+        return (int) (position >>> 32);
+    }
 
-    private Integer startColumn;
+    private static int column(long position) {
+        return (int) position;
+    }
 
-    private Integer endLine;
+    private static long withLine(long position, int line) {
+        return ((long) line << 32) | (position & COLUMN_MASK);
+    }
 
-    private Integer endColumn;
+    private static long withColumn(long position, int column) {
+        return (position & ~COLUMN_MASK) | (column & COLUMN_MASK);
+    }
 
 }
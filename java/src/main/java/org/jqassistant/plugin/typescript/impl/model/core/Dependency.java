@@ -15,6 +15,6 @@ public class Dependency extends NamedConcept {
 
     private String sourceType;
 
-    private Integer cardinality;
+    private int cardinality;
 
 }
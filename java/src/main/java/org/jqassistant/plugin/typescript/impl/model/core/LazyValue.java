@@ -0,0 +1,62 @@
+package org.jqassistant.plugin.typescript.impl.model.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Top-level {@link Value} whose subtree has not been deserialized yet, but is held as the buffered tokens of the report (see {@code LazyValueDeserializer}).
+ * The subtree is deserialized by {@link #materialize()} when it is mapped, so that it only exists as objects while its descriptors are created.
+ * The discriminator and the type of the value are deserialized up front (the type is not part of the buffered tokens),
+ * so they are available without materializing the subtree.
+ */
+public class LazyValue extends Value {
+
+    private final TokenBuffer tokens;
+
+    private final ObjectCodec codec;
+
+    @Getter
+    private final String valueType;
+
+    /**
+     * @param valueType discriminator of the value, e.g. {@code object}
+     * @param type      type of the value, may be {@code null}
+     */
+    public LazyValue(TokenBuffer tokens, ObjectCodec codec, String valueType, Type type) {
+        this.tokens = tokens;
+        this.codec = codec;
+        this.valueType = valueType;
+        super.setType(type);
+    }
+
+    /**
+     * @return the given value, deserialized if it is a {@link LazyValue}
+     */
+    public static Value materialize(Value value) {
+        return value instanceof LazyValue ? ((LazyValue) value).materialize() : value;
+    }
+
+    /**
+     * Deserializes the buffered subtree. Each invocation creates a new instance, the result is not retained.
+     */
+    public Value materialize() {
+        try (JsonParser parser = tokens.asParser(codec)) {
+            Value value = codec.readValue(parser, Value.class);
+            value.setType(getType());
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot deserialize buffered value", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LazyValue(" + valueType + ")";
+    }
+
+}
@@ -12,7 +12,7 @@ import java.util.List;
 @ToString
 public class ParameterDeclaration {
 
-    private Integer index;
+    private int index;
 
     private String name;
 
@@ -9,6 +9,6 @@ import lombok.ToString;
 @ToString
 public class ParameterPropertyDeclaration extends PropertyDeclaration {
 
-    private Integer index;
+    private int index;
 
 }
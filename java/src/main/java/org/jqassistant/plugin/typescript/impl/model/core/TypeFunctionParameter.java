@@ -9,7 +9,7 @@ import lombok.ToString;
 @ToString
 public class TypeFunctionParameter {
 
-    private Integer index;
+    private int index;
 
     private String name;
 
@@ -11,7 +11,7 @@ public class TypeParameterDeclaration {
 
     private String name;
 
-    private Integer index;
+    private int index;
 
     private Type constraint;
 
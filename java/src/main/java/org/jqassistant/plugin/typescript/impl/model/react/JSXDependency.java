@@ -12,6 +12,6 @@ public class JSXDependency extends NamedConcept {
 
     private String name;
 
-    private Integer cardinality;
+    private int cardinality;
 
 }
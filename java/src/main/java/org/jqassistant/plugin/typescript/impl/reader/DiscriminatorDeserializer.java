@@ -0,0 +1,93 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidTypeIdException;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.jqassistant.plugin.typescript.impl.model.core.Type;
+import org.jqassistant.plugin.typescript.impl.model.core.Value;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deserializes the {@link Type} and {@link Value} hierarchies, dispatching on their discriminator property.
+ * <p>
+ * If the discriminator is the first property of an object (which is what the LCE tool writes), the concrete bean deserializer continues right
+ * after it, without any buffering. Otherwise, the annotation-driven type handling takes over, which buffers all properties preceding the discriminator.
+ * Discriminator property and subtypes are taken from the {@link JsonTypeInfo} and {@link JsonSubTypes} annotations of the base class.
+ */
+public class DiscriminatorDeserializer<T> extends StdDeserializer<T> {
+
+    private final String discriminator;
+
+    private final Map<String, Class<? extends T>> subtypes = new HashMap<>();
+
+    private final Map<String, JsonDeserializer<Object>> deserializers = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public DiscriminatorDeserializer(Class<T> baseType) {
+        super(baseType);
+        this.discriminator = baseType.getAnnotation(JsonTypeInfo.class).property();
+        for (JsonSubTypes.Type subtype : baseType.getAnnotation(JsonSubTypes.class).value()) {
+            subtypes.put(subtype.name(), (Class<? extends T>) subtype.value());
+        }
+    }
+
+    /**
+     * @return a module registering the deserializers for {@link Type} and {@link Value}, to be added to the {@code ObjectMapper} reading the reports
+     */
+    public static SimpleModule module() {
+        return new SimpleModule(DiscriminatorDeserializer.class.getSimpleName())
+            .addDeserializer(Type.class, new DiscriminatorDeserializer<>(Type.class))
+            .addDeserializer(Value.class, new DiscriminatorDeserializer<>(Value.class));
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+        if (p.hasToken(JsonToken.START_OBJECT)) {
+            p.nextToken();
+        }
+        if (p.hasToken(JsonToken.FIELD_NAME) && discriminator.equals(p.currentName())) {
+            p.nextToken();
+            String typeId = p.getText();
+            JsonDeserializer<Object> deserializer = findDeserializer(p, ctxt, typeId);
+            p.nextToken();
+            return deserializer.deserialize(p, ctxt);
+        }
+        // discriminator is not the first property (or the value is not an object)
+        return typeDeserializer.deserializeTypedFromObject(p, ctxt);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        TypeDeserializer typeDeserializer = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), ctxt.constructType(handledType()));
+        return (T) deserializeWithType(p, ctxt, typeDeserializer);
+    }
+
+    private JsonDeserializer<Object> findDeserializer(JsonParser p, DeserializationContext ctxt, String typeId) throws JsonMappingException {
+        JsonDeserializer<Object> deserializer = deserializers.get(typeId);
+        if (deserializer == null) {
+            Class<? extends T> subtype = subtypes.get(typeId);
+            if (subtype == null) {
+                throw InvalidTypeIdException.from(p, "Unknown " + discriminator + " '" + typeId + "' of " + handledType().getSimpleName(),
+                    ctxt.constructType(handledType()), typeId);
+            }
+            // not the root value deserializer, as that one would handle the (inherited) type info once more
+            deserializer = ctxt.findContextualValueDeserializer(ctxt.constructType(subtype), null);
+            deserializers.put(typeId, deserializer);
+        }
+        return deserializer;
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.RecordMapper;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.ReportRecord;
+import org.jqassistant.plugin.typescript.impl.reader.ReportIndex.Section;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the records of selected modules from a newline-delimited report, using the byte ranges of its {@link ReportIndex}.
+ * <p>
+ * The sections of all projects are read, so that every project of the report is part of the result, but only the sections of modules
+ * contained in one of the given paths. All other parts of the report are neither read nor parsed.
+ * References to declarations of modules that have not been read are not resolved.
+ */
+@Slf4j
+public class IndexedNdjsonReportReader {
+
+    private final ObjectMapper objectMapper;
+
+    private final NdjsonReportReader recordReader;
+
+    public IndexedNdjsonReportReader(ObjectMapper objectMapper, ScanProfile profile) {
+        this.objectMapper = objectMapper;
+        this.recordReader = new NdjsonReportReader(objectMapper, profile);
+    }
+
+    /**
+     * @param paths absolute paths of modules or directories, whose modules are read
+     */
+    public TypeScriptScanDescriptor read(Path file, ReportIndex index, List<String> paths, Scanner scanner) throws IOException {
+        Map<String, List<Section>> modulesByProject = new LinkedHashMap<>();
+        for (Section module : index.getModules()) {
+            if (isContained(module.getModule(), paths)) {
+                modulesByProject.computeIfAbsent(module.getProject(), p -> new ArrayList<>()).add(module);
+            }
+        }
+
+        long readBytes = 0;
+        int readModules = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            RecordMapper recordMapper = new RecordMapper(scanner, false);
+            for (Section project : index.getProjects()) {
+                readBytes += readSection(channel, project, recordMapper);
+                for (Section module : modulesByProject.getOrDefault(project.getProject(), List.of())) {
+                    readBytes += readSection(channel, module, recordMapper);
+                    readModules++;
+                }
+            }
+            log.info("Read {} of {} modules of report {} using its index: {} of {} KB", readModules, index.getModules().size(), file,
+                readBytes / 1024, channel.size() / 1024);
+            return recordMapper.end();
+        }
+    }
+
+    private long readSection(FileChannel channel, Section section, RecordMapper recordMapper) throws IOException {
+        ByteBufferBackedInputStream stream = new ByteBufferBackedInputStream(
+            channel.map(FileChannel.MapMode.READ_ONLY, section.getOffset(), section.getLength()));
+        try (JsonParser parser = objectMapper.createParser(stream)) {
+            ReportRecord record;
+            while ((record = recordReader.readRecord(parser)) != null) {
+                recordMapper.map(record);
+            }
+        }
+        return section.getLength();
+    }
+
+    /**
+     * @return whether the module is one of the given paths, or located in one of them
+     */
+    static boolean isContained(String module, List<String> paths) {
+        for (String path : paths) {
+            if (module.equals(path) || module.startsWith(path.endsWith("/") ? path : path + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,148 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.jqassistant.plugin.typescript.impl.model.core.Decorator;
+import org.jqassistant.plugin.typescript.impl.model.core.LazyValue;
+import org.jqassistant.plugin.typescript.impl.model.core.EnumMember;
+import org.jqassistant.plugin.typescript.impl.model.core.Type;
+import org.jqassistant.plugin.typescript.impl.model.core.Value;
+import org.jqassistant.plugin.typescript.impl.model.core.VariableDeclaration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deserializes the top-level values of variables, enum members and decorators as {@link LazyValue}s:
+ * the tokens of the value subtree are buffered instead of being deserialized into a tree of {@link Value} objects.
+ * <p>
+ * Value trees can be deep (e.g. object literals or call chains in initializers), so this reduces the objects held in memory
+ * by readers that buffer records before they are mapped (non-streaming, parallel and pipelined reading, shards).
+ * The values are deserialized on the thread mapping them to the store.
+ * <p>
+ * Only values that may nest other values ({@link #NESTING_VALUE_TYPES}) are buffered: all others are deserialized directly, as their subtree
+ * consists of a single node, so buffering would only cost a second pass over it. The type of a buffered value is deserialized directly as well
+ * and not buffered. Values are not read at all by scan profiles excluding them (see {@link ScanProfile}).
+ */
+public class LazyValueDeserializer extends JsonDeserializer<Value> {
+
+    /**
+     * Concepts whose properties of type {@link Value} are deserialized lazily.
+     */
+    public static final Set<Class<?>> LAZY_VALUE_OWNERS = Set.of(VariableDeclaration.class, EnumMember.class, Decorator.class);
+
+    /**
+     * Discriminators of the values that may contain other values, i.e. whose subtree may be deep.
+     */
+    public static final Set<String> NESTING_VALUE_TYPES = Set.of("object", "object-property", "array", "call", "member");
+
+    /**
+     * Discriminator property of {@link Value}.
+     */
+    private static final String VALUE_TYPE_PROPERTY = Value.class.getAnnotation(JsonTypeInfo.class).property();
+
+    private static final String TYPE_PROPERTY = "type";
+
+    private static final Map<String, Class<?>> VALUE_SUBTYPES = new HashMap<>();
+
+    static {
+        for (JsonSubTypes.Type subtype : Value.class.getAnnotation(JsonSubTypes.class).value()) {
+            VALUE_SUBTYPES.put(subtype.name(), subtype.value());
+        }
+    }
+
+    /**
+     * @return a module that makes the {@code ObjectMapper} deserialize the top-level values lazily
+     */
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule(LazyValueDeserializer.class.getSimpleName());
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+                if (!LAZY_VALUE_OWNERS.contains(beanDesc.getBeanClass())) {
+                    return builder;
+                }
+                List<SettableBeanProperty> valueProperties = new ArrayList<>();
+                builder.getProperties().forEachRemaining(property -> {
+                    if (property.getType().hasRawClass(Value.class)) {
+                        valueProperties.add(property);
+                    }
+                });
+                LazyValueDeserializer deserializer = new LazyValueDeserializer();
+                for (SettableBeanProperty property : valueProperties) {
+                    builder.addOrReplaceProperty(property.withValueDeserializer(deserializer), true);
+                }
+                return builder;
+            }
+        });
+        return module;
+    }
+
+    @Override
+    public Value deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.getCodec() == null || !p.hasToken(JsonToken.START_OBJECT)) {
+            // no codec to deserialize the buffered tokens with later on
+            return ctxt.readValue(p, Value.class);
+        }
+        String valueType = null;
+        JsonToken token = p.nextToken();
+        if (token == JsonToken.FIELD_NAME && VALUE_TYPE_PROPERTY.equals(p.currentName())) {
+            p.nextToken();
+            valueType = p.getText();
+            Class<?> subtype = VALUE_SUBTYPES.get(valueType);
+            if (subtype != null && !NESTING_VALUE_TYPES.contains(valueType)) {
+                JsonDeserializer<Object> deserializer = ctxt.findContextualValueDeserializer(ctxt.constructType(subtype), null);
+                p.nextToken();
+                return (Value) deserializer.deserialize(p, ctxt);
+            }
+            token = p.nextToken();
+        }
+        // a single pass over the remaining properties: the type is deserialized, all others are buffered
+        TokenBuffer tokens = ctxt.bufferForInputBuffering(p);
+        tokens.writeStartObject();
+        if (valueType != null) {
+            tokens.writeStringField(VALUE_TYPE_PROPERTY, valueType);
+        }
+        Type type = null;
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            if (TYPE_PROPERTY.equals(fieldName)) {
+                type = ctxt.readValue(p, Type.class);
+            } else {
+                if (VALUE_TYPE_PROPERTY.equals(fieldName)) {
+                    valueType = p.getText();
+                }
+                tokens.writeFieldName(fieldName);
+                tokens.copyCurrentStructure(p);
+            }
+        }
+        tokens.writeEndObject();
+        return new LazyValue(tokens, p.getCodec(), valueType, type);
+    }
+
+    /**
+     * {@link Value} is polymorphic, so Jackson passes its type deserializer: the discriminator is read by {@link #deserialize} instead.
+     */
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+        return deserialize(p, ctxt);
+    }
+
+}
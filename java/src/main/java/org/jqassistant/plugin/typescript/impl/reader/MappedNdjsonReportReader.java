@@ -0,0 +1,143 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.RecordMapper;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.ReportRecord;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a newline-delimited report from a memory-mapped file.
+ * <p>
+ * The file is split into chunks at line boundaries, which are parsed concurrently directly from the mapped memory.
+ * The records of each chunk are handed to the {@link RecordMapper} on the calling thread in file order, so the result is the same as
+ * with {@link NdjsonReportReader#read(JsonParser, Scanner)}. The mapped chunks are digested in file order as well (see {@link #getDigest()}).
+ * <p>
+ * The mapped file itself is not held on the heap, but the records of a chunk are until the mapper has consumed them. Besides the chunk being mapped,
+ * at most one chunk per thread is parsed ahead of the mapper, so the heap needed for records is bounded by {@code parallelism + 1} chunks
+ * (deserialized records take a few times the size of their JSON, i.e. roughly {@code (parallelism + 1) * 4 MB * 5} with the default chunk size).
+ */
+@Slf4j
+public class MappedNdjsonReportReader {
+
+    public static final long DEFAULT_CHUNK_SIZE = 4L * 1024 * 1024;
+
+    private static final int BOUNDARY_WINDOW_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private final NdjsonReportReader recordReader;
+
+    private final int parallelism;
+
+    private final long chunkSize;
+
+    private String digest;
+
+    public MappedNdjsonReportReader(ObjectMapper objectMapper, ScanProfile profile, int parallelism) {
+        this(objectMapper, profile, parallelism, DEFAULT_CHUNK_SIZE);
+    }
+
+    public MappedNdjsonReportReader(ObjectMapper objectMapper, ScanProfile profile, int parallelism, long chunkSize) {
+        this.objectMapper = objectMapper;
+        this.recordReader = new NdjsonReportReader(objectMapper, profile);
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    public TypeScriptScanDescriptor read(Path file, Scanner scanner) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> chunks = findChunks(channel);
+            MessageDigest messageDigest = ReportDigest.newMessageDigest();
+            RecordMapper recordMapper = new RecordMapper(scanner, false);
+            ExecutorService executor = ReaderThreads.newPool(Math.min(parallelism, Math.max(chunks.size(), 1)));
+            try {
+                Deque<Future<List<ReportRecord>>> pending = new ArrayDeque<>();
+                int next = 0;
+                while (next < chunks.size() || !pending.isEmpty()) {
+                    while (next < chunks.size() && pending.size() <= parallelism) {
+                        long[] chunk = chunks.get(next++);
+                        pending.add(executor.submit(() -> readChunk(channel, chunk[0], chunk[1])));
+                    }
+                    long[] mappedChunk = chunks.get(next - pending.size());
+                    for (ReportRecord record : ReaderThreads.await(pending.poll())) {
+                        recordMapper.map(record);
+                    }
+                    messageDigest.update(channel.map(FileChannel.MapMode.READ_ONLY, mappedChunk[0], mappedChunk[1] - mappedChunk[0]));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            digest = ReportDigest.toHex(messageDigest.digest());
+            log.info("Read report {} in {} chunks: {} MB in {} ms", file, chunks.size(), channel.size() / (1024 * 1024),
+                (System.nanoTime() - start) / 1_000_000);
+            return recordMapper.end();
+        }
+    }
+
+    /**
+     * @return digest of the whole report, available after it has been read
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    private List<ReportRecord> readChunk(FileChannel channel, long start, long end) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        List<ReportRecord> records = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(new ByteBufferBackedInputStream(buffer))) {
+            ReportRecord record;
+            while ((record = recordReader.readRecord(parser)) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * @return start (inclusive) and end (exclusive) offsets of chunks of about the chunk size, each ending after a line break (or at the end of the file)
+     */
+    private List<long[]> findChunks(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<long[]> chunks = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkSize < size ? nextLineStart(channel, start + chunkSize, size) : size;
+            chunks.add(new long[] { start, end });
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        while (position < size) {
+            long windowSize = Math.min(BOUNDARY_WINDOW_SIZE, size - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+            for (int i = 0; i < windowSize; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += windowSize;
+        }
+        return size;
+    }
+
+}
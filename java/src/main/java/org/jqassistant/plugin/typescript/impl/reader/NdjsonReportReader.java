@@ -0,0 +1,234 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.mapper.core.MappingOptions;
+import org.jqassistant.plugin.typescript.impl.mapper.core.ProjectMapper;
+import org.jqassistant.plugin.typescript.impl.mapper.core.ReportContext;
+import org.jqassistant.plugin.typescript.impl.mapper.core.TypeScriptScanMapper;
+import org.jqassistant.plugin.typescript.impl.model.ConceptKind;
+import org.jqassistant.plugin.typescript.impl.model.core.Project;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads a newline-delimited report, where every line holds a single record of the form
+ * {@code {"kind": "class-declaration", "project": "/path/to/tsconfig.json", "concept": {...}}}.
+ * <p>
+ * A record of kind {@code project} (containing the project paths as concept) has to precede all other records of that project.
+ * Apart from that, records may appear in any order, so reports can be split and concatenated at line boundaries.
+ * <p>
+ * Reading a record ({@link #readRecord(JsonParser)}) and mapping it ({@link RecordMapper}) are separate steps, so that records may be read on other threads.
+ */
+@Slf4j
+public class NdjsonReportReader {
+
+    public static final String PROJECT_RECORD = "project";
+
+    private final ObjectReader projectReader;
+
+    private final Map<ConceptKind, ObjectReader> conceptReaders = new EnumMap<>(ConceptKind.class);
+
+    /**
+     * @param objectMapper mapper configured with the module of the given profile
+     * @param profile records of concept kinds not included in the profile are skipped
+     */
+    public NdjsonReportReader(ObjectMapper objectMapper, ScanProfile profile) {
+        this.projectReader = objectMapper.readerFor(Project.class);
+        for (ConceptKind kind : ConceptKind.values()) {
+            if (profile.includes(kind)) {
+                conceptReaders.put(kind, objectMapper.readerFor(kind.getType()));
+            }
+        }
+    }
+
+    public TypeScriptScanDescriptor read(JsonParser parser, Scanner scanner) throws IOException {
+        RecordMapper recordMapper = new RecordMapper(scanner, false);
+        read(parser, recordMapper::map);
+        return recordMapper.end();
+    }
+
+    /**
+     * Reads all records of the report and hands them to the sink.
+     */
+    public void read(JsonParser parser, RecordSink sink) throws IOException {
+        ReportRecord record;
+        while ((record = readRecord(parser)) != null) {
+            sink.accept(record);
+        }
+    }
+
+    /**
+     * Reads the next record of the report. May be called concurrently for different parsers.
+     *
+     * @return the record, or {@code null} if the end of the input has been reached
+     */
+    public ReportRecord readRecord(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object as report record");
+        }
+        String kind = null;
+        String project = null;
+        Object concept = null;
+        TreeNode bufferedConcept = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "kind":
+                    kind = parser.getValueAsString();
+                    break;
+                case "project":
+                    project = parser.getValueAsString();
+                    break;
+                case "concept":
+                    if (kind != null) {
+                        concept = readConcept(kind, parser);
+                    } else {
+                        bufferedConcept = parser.readValueAsTree();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (kind == null || project == null) {
+            throw new JsonParseException(parser, "Report record is missing its kind or project");
+        }
+        if (bufferedConcept != null) {
+            try (JsonParser bufferedParser = bufferedConcept.traverse(parser.getCodec())) {
+                bufferedParser.nextToken();
+                concept = readConcept(kind, bufferedParser);
+            }
+        }
+        return new ReportRecord(kind, project, concept);
+    }
+
+    private Object readConcept(String kind, JsonParser parser) throws IOException {
+        if (PROJECT_RECORD.equals(kind)) {
+            return projectReader.readValue(parser);
+        }
+        ConceptKind conceptKind = ConceptKind.byId(kind);
+        ObjectReader conceptReader = conceptKind != null ? conceptReaders.get(conceptKind) : null;
+        if (conceptReader == null) {
+            parser.skipChildren();
+            return null;
+        }
+        return conceptReader.readValue(parser);
+    }
+
+    /**
+     * A single record of the report.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ReportRecord {
+
+        private final String kind;
+
+        private final String project;
+
+        /**
+         * The deserialized concept, {@code null} if the kind of the record is unknown or excluded by the scan profile.
+         */
+        private final Object concept;
+
+    }
+
+    /**
+     * Hands records to the {@link ProjectMapper} in the order they are passed. Has to be used on the scanner thread.
+     * The concepts contained in the project of a {@code project} record (as read from JSON reports) are mapped along with the project.
+     * <p>
+     * If the records are ordered, i.e. all records of a project directly follow its {@code project} record (as for JSON and Smile reports),
+     * a project is ended as soon as the next one begins. This releases its mapping state and allows to commit between projects
+     * (see {@link MappingOptions#getCommitInterval()}). Otherwise, the records of several projects may be interleaved, so every project is only
+     * suspended in between and all of them are ended along with the report.
+     */
+    public static class RecordMapper {
+
+        private final Scanner scanner;
+
+        private final boolean ordered;
+
+        private final ReportContext reportContext;
+
+        private final Set<String> projects = new HashSet<>();
+
+        private String currentProject;
+
+        /**
+         * @param ordered {@code true} if all records of a project directly follow its {@code project} record
+         */
+        public RecordMapper(Scanner scanner, boolean ordered) {
+            this.scanner = scanner;
+            this.ordered = ordered;
+            this.reportContext = ProjectMapper.INSTANCE.begin(scanner);
+        }
+
+        public void map(ReportRecord record) {
+            String kind = record.getKind();
+            String project = record.getProject();
+            if (PROJECT_RECORD.equals(kind)) {
+                if (!projects.add(project)) {
+                    throw new IllegalStateException("Project " + project + " is contained more than once in the report");
+                }
+                if (currentProject != null && ordered) {
+                    ProjectMapper.INSTANCE.endProject(scanner);
+                } else if (currentProject != null) {
+                    ProjectMapper.INSTANCE.suspendProject(scanner);
+                }
+                Project projectConcept = (Project) record.getConcept();
+                ProjectMapper.INSTANCE.beginProject(projectConcept, scanner);
+                ProjectMapper.INSTANCE.mapConcepts(projectConcept.getConcepts(), scanner);
+                currentProject = project;
+                return;
+            }
+
+            ConceptKind conceptKind = ConceptKind.byId(kind);
+            if (conceptKind == null || record.getConcept() == null) {
+                log.debug("Skipping report record of unknown or excluded kind: {}", kind);
+                return;
+            }
+            if (!project.equals(currentProject)) {
+                if (!projects.contains(project)) {
+                    throw new IllegalStateException("Report record of kind " + kind + " precedes the record of its project " + project);
+                }
+                if (ordered) {
+                    throw new IllegalStateException("Report record of kind " + kind + " of project " + project + " follows the records of another project");
+                }
+                ProjectMapper.INSTANCE.suspendProject(scanner);
+                ProjectMapper.INSTANCE.resumeProject(project, scanner);
+                currentProject = project;
+            }
+            ProjectMapper.INSTANCE.mapConcept(conceptKind, record.getConcept(), scanner);
+        }
+
+        public TypeScriptScanDescriptor end() {
+            if (currentProject != null) {
+                ProjectMapper.INSTANCE.endProject(scanner);
+            }
+            List<ProjectDescriptor> projectDescriptors = ProjectMapper.INSTANCE.end(scanner);
+            return TypeScriptScanMapper.INSTANCE.toScanDescriptor(projectDescriptors, reportContext, scanner);
+        }
+    }
+
+}
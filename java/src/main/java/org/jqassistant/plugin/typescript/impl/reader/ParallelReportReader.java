@@ -0,0 +1,111 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.jqassistant.plugin.typescript.impl.mapper.core.ProjectMapper;
+import org.jqassistant.plugin.typescript.impl.mapper.core.ReportContext;
+import org.jqassistant.plugin.typescript.impl.mapper.core.TypeScriptScanMapper;
+import org.jqassistant.plugin.typescript.impl.model.core.Project;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads an uncompressed JSON report (array of projects) by deserializing its projects concurrently.
+ * <p>
+ * A structural pass over the report stream determines the byte range of every project without creating any objects.
+ * The projects are then deserialized on a fixed number of threads directly from the memory-mapped report file, while the {@link ProjectMapper}
+ * receives them in report order on the calling thread. The report itself is never held on the heap, so its size is not limited;
+ * a single project must not exceed 2 GB though, as this is the limit of a mapped region.
+ * At most twice as many projects as there are threads are deserialized ahead of the mapper, which bounds the memory needed for deserialized projects.
+ */
+public class ParallelReportReader {
+
+    private final ObjectReader projectReader;
+
+    private final int parallelism;
+
+    public ParallelReportReader(ObjectMapper objectMapper, int parallelism) {
+        this.projectReader = objectMapper.readerFor(Project.class);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param stream stream of the report, which is read once to find the projects (and may digest the report along the way)
+     * @param file   the uncompressed report file, from which the projects are deserialized
+     */
+    public TypeScriptScanDescriptor read(InputStream stream, Path file, Scanner scanner) throws IOException {
+        List<long[]> ranges = findProjectRanges(stream, file);
+
+        ReportContext reportContext = ProjectMapper.INSTANCE.begin(scanner);
+        ExecutorService executor = ReaderThreads.newPool(Math.min(parallelism, Math.max(ranges.size(), 1)));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Deque<Future<Project>> pending = new ArrayDeque<>();
+            int next = 0;
+            while (next < ranges.size() || !pending.isEmpty()) {
+                while (next < ranges.size() && pending.size() < 2 * parallelism) {
+                    long[] range = ranges.get(next++);
+                    pending.add(executor.submit(() -> readProject(channel, range[0], range[1])));
+                }
+                Project project = ReaderThreads.await(pending.poll());
+                ProjectMapper.INSTANCE.beginProject(project, scanner);
+                ProjectMapper.INSTANCE.mapConcepts(project.getConcepts(), scanner);
+                ProjectMapper.INSTANCE.endProject(scanner);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        List<ProjectDescriptor> projects = ProjectMapper.INSTANCE.end(scanner);
+        return TypeScriptScanMapper.INSTANCE.toScanDescriptor(projects, reportContext, scanner);
+    }
+
+    private Project readProject(FileChannel channel, long start, long end) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        return projectReader.readValue(new ByteBufferBackedInputStream(buffer));
+    }
+
+    /**
+     * @return start (inclusive) and end (exclusive) byte offsets of every project in the report
+     */
+    private List<long[]> findProjectRanges(InputStream stream, Path file) throws IOException {
+        List<long[]> ranges = new ArrayList<>();
+        try (JsonParser parser = projectReader.getFactory().createParser(stream)) {
+            // the stream is closed by its owner, which may still need to read its remainder
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected the report to be an array of projects");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                long start = parser.getTokenLocation().getByteOffset();
+                parser.skipChildren();
+                long end = parser.getCurrentLocation().getByteOffset();
+                if (end - start > Integer.MAX_VALUE) {
+                    throw new IOException("The project at byte offset " + start + " of report " + file + " has " + (end - start) +
+                        " bytes, which exceeds the limit of 2 GB per project for reading a report in parallel (set " +
+                        TypescriptProjectScannerPlugin.PROPERTY_PARALLELISM + " to 1 to read it sequentially)");
+                }
+                ranges.add(new long[] { start, end });
+            }
+        }
+        return ranges;
+    }
+
+}
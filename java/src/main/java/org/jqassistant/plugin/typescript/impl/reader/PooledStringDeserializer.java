@@ -0,0 +1,62 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Deserializes the strings of report properties that hold FQNs, paths or file names through a {@link StringPool},
+ * so that the many occurrences of the same FQN or path within a report share a single instance.
+ * All other strings are deserialized as usual.
+ */
+public class PooledStringDeserializer extends StdScalarDeserializer<String> implements ContextualDeserializer {
+
+    /**
+     * Names of the report properties whose values are pooled (for collections: the elements of the collection).
+     */
+    public static final Set<String> POOLED_PROPERTIES = Set.of(
+        "globalFqn", "localFqn", "globalSourceFQN", "globalDeclFqn",
+        "fileName", "path", "rootPath", "configPath", "subProjectPaths", "sourceFilePaths", "sourceFilePathAbsolute", "importSource"
+    );
+
+    private final StringPool stringPool;
+
+    public PooledStringDeserializer(StringPool stringPool) {
+        super(String.class);
+        this.stringPool = stringPool;
+    }
+
+    /**
+     * @return a module that registers a deserializer for the given pool, to be added to the {@code ObjectMapper} reading the reports
+     */
+    public static SimpleModule module(StringPool stringPool) {
+        return new SimpleModule(PooledStringDeserializer.class.getSimpleName())
+            .addDeserializer(String.class, new PooledStringDeserializer(stringPool));
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        if (property != null && POOLED_PROPERTIES.contains(property.getName())) {
+            return this;
+        }
+        return StringDeserializer.instance;
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return stringPool.intern(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        return StringDeserializer.instance.deserialize(p, ctxt);
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread pools for the readers that parse parts of a report concurrently.
+ */
+class ReaderThreads {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private ReaderThreads() {
+    }
+
+    static ExecutorService newPool(int threads) {
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "typescript-report-reader-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Waits for the result of a reader task, exceptions of the task are rethrown as they are (if possible).
+     */
+    static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the report", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Could not read the report", e.getCause());
+        }
+    }
+
+}
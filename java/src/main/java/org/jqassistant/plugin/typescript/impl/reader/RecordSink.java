@@ -0,0 +1,15 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.ReportRecord;
+
+import java.io.IOException;
+
+/**
+ * Receives the records of a report in the order they have been read.
+ */
+@FunctionalInterface
+public interface RecordSink {
+
+    void accept(ReportRecord record) throws IOException;
+
+}
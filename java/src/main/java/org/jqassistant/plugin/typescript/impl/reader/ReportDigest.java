@@ -0,0 +1,101 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.plugin.common.api.scanner.filesystem.FileResource;
+import com.buschmais.xo.api.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detects reports that have already been scanned into the store, using the digest of their (uncompressed) content.
+ * <p>
+ * The digest of a report is computed by the {@link ReportStream} while the report is mapped and stored at the {@link TypeScriptScanDescriptor},
+ * along with the size and last modification time of the report file. Before a report is mapped, only its size is compared with the existing scans.
+ * The report is digested up front only if a scan of a report with the same size exists, and its content decides whether it is unchanged.
+ * The modification time is not taken into account, as regenerated reports (e.g. on CI) get a new one even if their content is identical.
+ */
+@Slf4j
+public class ReportDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private ReportDigest() {
+    }
+
+    /**
+     * @return the scan of a report with the same content as the given report, or {@code null} if the report has to be mapped
+     */
+    public static TypeScriptScanDescriptor findUnchanged(FileResource fileResource, String path, Scanner scanner) throws IOException {
+        Store store = scanner.getContext().getStore();
+        File file = fileResource.getFile();
+        Query.Result<Query.Result.CompositeRowObject> candidates = store.executeQuery(
+            "MATCH (scan:TS:Scan{reportSize: $size}) WHERE scan.digest IS NOT NULL RETURN scan",
+            Map.of("size", file.length()));
+        if (!candidates.hasResult()) {
+            return null;
+        }
+        List<TypeScriptScanDescriptor> scans = new ArrayList<>();
+        for (Query.Result.CompositeRowObject row : candidates) {
+            scans.add(row.get("scan", TypeScriptScanDescriptor.class));
+        }
+
+        long start = System.nanoTime();
+        String digest;
+        try (ReportStream stream = ReportStream.open(fileResource, path)) {
+            digest = stream.digest();
+        }
+        long digestTime = (System.nanoTime() - start) / 1_000_000;
+        for (TypeScriptScanDescriptor scan : scans) {
+            if (digest.equals(scan.getDigest())) {
+                log.info("Report {} is unchanged since it has been scanned as {}, skipping its mapping: saved {} ms ({} ms mapping, {} ms digest)",
+                    path, scan.getFileName(), scan.getMappingTime() - digestTime, scan.getMappingTime(), digestTime);
+                return scan;
+            }
+        }
+        log.info("Report {} has the same size as a previous scan, but a different content", path);
+        return null;
+    }
+
+    /**
+     * Stores the digest and the file attributes of the report and the time needed to map it at its scan.
+     *
+     * @param start {@link System#nanoTime()} at the start of the mapping
+     */
+    public static TypeScriptScanDescriptor record(TypeScriptScanDescriptor scan, FileResource fileResource, String digest, long start) throws IOException {
+        File file = fileResource.getFile();
+        scan.setReportSize(file.length());
+        scan.setReportLastModified(file.lastModified());
+        scan.setDigest(digest);
+        scan.setMappingTime((System.nanoTime() - start) / 1_000_000);
+        return scan;
+    }
+
+    static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not supported by the JVM", e);
+        }
+    }
+
+    static String toHex(byte[] digest) {
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+}
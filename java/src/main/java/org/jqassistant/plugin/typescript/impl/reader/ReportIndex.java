@@ -0,0 +1,84 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index of a newline-delimited report, written by the LCE tool next to the report with the additional extension {@value #EXTENSION}.
+ * <p>
+ * Every section is a contiguous byte range of the report consisting of complete lines. The section of a project contains its {@code project} record
+ * followed by all records not belonging to a single module (e.g. external modules). The section of a module contains the module itself
+ * along with its declarations, exports and dependencies.
+ * <p>
+ * The index records the size and modification time of the report it was written for. An index that doesn't match its report (e.g. because the
+ * report has been written again without the index) is ignored, as its byte ranges can't be trusted.
+ */
+@Getter
+@Setter
+@ToString
+@Slf4j
+public class ReportIndex {
+
+    public static final String EXTENSION = ".idx";
+
+    /**
+     * Size of the report in bytes.
+     */
+    private long reportSize;
+
+    /**
+     * Modification time of the report in milliseconds since the epoch.
+     */
+    private long reportLastModified;
+
+    private List<Section> projects = new ArrayList<>();
+
+    private List<Section> modules = new ArrayList<>();
+
+    /**
+     * @return the index of the given report, or {@code null} if there is none or if it doesn't match the report
+     */
+    public static ReportIndex load(File report, ObjectMapper objectMapper) throws IOException {
+        File indexFile = new File(report.getPath() + EXTENSION);
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        ReportIndex index = objectMapper.readValue(indexFile, ReportIndex.class);
+        if (index.reportSize != report.length() || index.reportLastModified != report.lastModified()) {
+            log.warn("Ignoring index {}: it was written for a report of {} bytes modified at {}, but the report has {} bytes and was modified at {}",
+                indexFile, index.reportSize, index.reportLastModified, report.length(), report.lastModified());
+            return null;
+        }
+        return index;
+    }
+
+    @Getter
+    @Setter
+    @ToString
+    public static class Section {
+
+        /**
+         * Config path of the project.
+         */
+        private String project;
+
+        /**
+         * Global FQN (i.e. absolute path) of the module, {@code null} for project sections.
+         */
+        private String module;
+
+        private long offset;
+
+        private long length;
+
+    }
+
+}
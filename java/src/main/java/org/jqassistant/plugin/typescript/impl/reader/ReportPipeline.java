@@ -0,0 +1,169 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.RecordMapper;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.ReportRecord;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Overlaps the parsing of a report with writing its concepts to the store.
+ * <p>
+ * The report is parsed on a separate thread, which hands the deserialized records to the calling thread through a bounded queue.
+ * The calling thread is the only one writing to the store: it maps the records via the {@link RecordMapper}, including the final resolution
+ * of FQNs, dependencies and exports. If the queue is full, the parser waits for the writer (backpressure), so at most
+ * {@code capacity} records are held in memory in addition to the ones being parsed and mapped.
+ * <p>
+ * The queue depth and the time both threads have been stalled are collected as {@link Metrics} and logged when the report has been read.
+ */
+@Slf4j
+public class ReportPipeline {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final ReportRecord END = new ReportRecord(null, null, null);
+
+    private final int capacity;
+
+    @Getter
+    private final Metrics metrics = new Metrics();
+
+    public ReportPipeline() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ReportPipeline(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Source of the records, parsing the report on the pipeline thread.
+     */
+    @FunctionalInterface
+    public interface RecordSource {
+
+        void read(RecordSink sink) throws IOException;
+
+    }
+
+    /**
+     * @param ordered {@code true} if the source hands over all records of a project directly after its {@code project} record (see {@link RecordMapper})
+     */
+    public TypeScriptScanDescriptor read(RecordSource source, boolean ordered, Scanner scanner) throws IOException {
+        BlockingQueue<ReportRecord> queue = new ArrayBlockingQueue<>(capacity);
+        RecordMapper recordMapper = new RecordMapper(scanner, ordered);
+        ExecutorService executor = ReaderThreads.newPool(1);
+        try {
+            Future<Void> parser = executor.submit(() -> {
+                try {
+                    source.read(record -> put(queue, record));
+                } finally {
+                    put(queue, END);
+                }
+                return null;
+            });
+            ReportRecord record;
+            while ((record = take(queue)) != END) {
+                metrics.recordQueueDepth(queue.size());
+                recordMapper.map(record);
+            }
+            // rethrows the exception the parser has failed with, if any
+            ReaderThreads.await(parser);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("Read report in pipeline: {}", metrics);
+        return recordMapper.end();
+    }
+
+    private void put(BlockingQueue<ReportRecord> queue, ReportRecord record) throws InterruptedIOException {
+        if (queue.offer(record)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while handing over a report record");
+        }
+        metrics.parserStallNanos += System.nanoTime() - start;
+    }
+
+    private ReportRecord take(BlockingQueue<ReportRecord> queue) throws InterruptedIOException {
+        ReportRecord record = queue.poll();
+        if (record != null) {
+            return record;
+        }
+        long start = System.nanoTime();
+        try {
+            record = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a report record");
+        }
+        metrics.writerStallNanos += System.nanoTime() - start;
+        return record;
+    }
+
+    /**
+     * Metrics of a pipeline, complete after the report has been read.
+     */
+    public static class Metrics {
+
+        @Getter
+        private long records;
+
+        @Getter
+        private int maxQueueDepth;
+
+        private long queueDepthSum;
+
+        /**
+         * Written by the parser thread only, visible to the writer thread once the parser has finished.
+         */
+        private long parserStallNanos;
+
+        private long writerStallNanos;
+
+        private void recordQueueDepth(int queueDepth) {
+            records++;
+            queueDepthSum += queueDepth;
+            maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+        }
+
+        public double getAverageQueueDepth() {
+            return records > 0 ? (double) queueDepthSum / records : 0;
+        }
+
+        /**
+         * @return time the parser has waited for the writer, because the queue was full
+         */
+        public long getParserStallMillis() {
+            return parserStallNanos / 1_000_000;
+        }
+
+        /**
+         * @return time the writer has waited for the parser, because the queue was empty
+         */
+        public long getWriterStallMillis() {
+            return writerStallNanos / 1_000_000;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d records, queue depth %.1f on average (max. %d), parser stalled for %d ms, writer stalled for %d ms",
+                records, getAverageQueueDepth(), maxQueueDepth, getParserStallMillis(), getWriterStallMillis());
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.plugin.common.api.scanner.filesystem.FileResource;
+import com.google.common.io.CountingInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Input stream of a report file that transparently decompresses gzip compressed reports (e.g. {@code ts-output.json.gz}) while they are read.
+ * The read throughput is logged when the stream is closed.
+ * The digest of the (uncompressed) content is computed along the way, see {@link #digest()}.
+ */
+@Slf4j
+public class ReportStream extends FilterInputStream {
+
+    public static final String GZIP_EXTENSION = ".gz";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final double MB = 1024 * 1024;
+
+    private final String path;
+
+    private final CountingInputStream compressed;
+
+    private final CountingInputStream uncompressed;
+
+    private final MessageDigest messageDigest;
+
+    private final long start = System.nanoTime();
+
+    private boolean closed;
+
+    private ReportStream(String path, CountingInputStream compressed, CountingInputStream uncompressed, MessageDigest messageDigest) {
+        super(new DigestInputStream(uncompressed, messageDigest));
+        this.path = path;
+        this.compressed = compressed;
+        this.uncompressed = uncompressed;
+        this.messageDigest = messageDigest;
+    }
+
+    public static ReportStream open(FileResource fileResource, String path) throws IOException {
+        return open(fileResource.createStream(), path);
+    }
+
+    public static ReportStream open(File file) throws IOException {
+        return open(new FileInputStream(file), file.getPath());
+    }
+
+    private static ReportStream open(InputStream stream, String path) throws IOException {
+        if (isCompressed(path)) {
+            CountingInputStream compressed = new CountingInputStream(stream);
+            return new ReportStream(path, compressed, new CountingInputStream(new GZIPInputStream(compressed, BUFFER_SIZE)), ReportDigest.newMessageDigest());
+        }
+        return new ReportStream(path, null, new CountingInputStream(new BufferedInputStream(stream, BUFFER_SIZE)), ReportDigest.newMessageDigest());
+    }
+
+    public static boolean isCompressed(String path) {
+        return path.endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * @return the given path without the extension of the compression format, if there is one
+     */
+    public static String stripCompressionExtension(String path) {
+        return isCompressed(path) ? path.substring(0, path.length() - GZIP_EXTENSION.length()) : path;
+    }
+
+    /**
+     * Reads the remaining content (which a parser may have left after the end of the document) and returns the digest of the whole content.
+     * Must not be called if the stream has been closed before reaching its end; parsers only close it on their own at the end of the input.
+     */
+    public String digest() throws IOException {
+        if (!closed) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (read(buffer) >= 0) {
+                // the content is digested while it is read
+            }
+        }
+        return ReportDigest.toHex(messageDigest.digest());
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        if (closed) {
+            return;
+        }
+        closed = true;
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+        double uncompressedMb = uncompressed.getCount() / MB;
+        if (compressed != null) {
+            double compressedMb = compressed.getCount() / MB;
+            log.info("Read report {}: {} MB compressed ({} MB/s), {} MB uncompressed ({} MB/s) in {} s", path,
+                format(compressedMb), format(compressedMb / seconds), format(uncompressedMb), format(uncompressedMb / seconds), format(seconds));
+        } else {
+            log.info("Read report {}: {} MB ({} MB/s) in {} s", path, format(uncompressedMb), format(uncompressedMb / seconds), format(seconds));
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+}
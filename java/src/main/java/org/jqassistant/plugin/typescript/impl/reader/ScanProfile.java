@@ -0,0 +1,118 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import lombok.Getter;
+import org.jqassistant.plugin.typescript.impl.model.ConceptKind;
+import org.jqassistant.plugin.typescript.impl.model.core.Decorator;
+import org.jqassistant.plugin.typescript.impl.model.core.Type;
+import org.jqassistant.plugin.typescript.impl.model.core.TypeDeclared;
+import org.jqassistant.plugin.typescript.impl.model.core.TypeParameterDeclaration;
+import org.jqassistant.plugin.typescript.impl.model.core.Value;
+import org.jqassistant.plugin.typescript.impl.model.react.ReactComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Determines which categories of concepts are read from a report.
+ * Properties holding concepts of an excluded category are skipped by the parser as a whole, so they are neither deserialized nor mapped.
+ * Declarations, modules, exports and dependencies are always read, so that the graph stays consistent for the remaining categories.
+ */
+@Getter
+public enum ScanProfile {
+
+    /**
+     * Only the structure of the projects and the dependencies between their modules and declarations (no types, values, decorators or React components).
+     * The declared types that classes extend or implement and that interfaces extend are kept (without their type arguments),
+     * so that {@code EXTENDS} and {@code IMPLEMENTS} relations are still created.
+     */
+    ARCHITECTURE(Set.of(Type.class, TypeParameterDeclaration.class, Value.class, Decorator.class, ReactComponent.class), Set.of(TypeDeclared.class)),
+    /**
+     * Like {@link #FULL}, but without values, decorators and React components.
+     */
+    TYPES(Set.of(Value.class, Decorator.class, ReactComponent.class), Set.of()),
+    /**
+     * Everything contained in the report.
+     */
+    FULL(Set.of(), Set.of());
+
+    private final Set<Class<?>> excludedTypes;
+
+    /**
+     * Types that are read although they are a subtype of an excluded type.
+     */
+    private final Set<Class<?>> keptTypes;
+
+    ScanProfile(Set<Class<?>> excludedTypes, Set<Class<?>> keptTypes) {
+        this.excludedTypes = excludedTypes;
+        this.keptTypes = keptTypes;
+    }
+
+    /**
+     * @param name the name of the profile, case-insensitive
+     * @throws IllegalArgumentException if there is no profile with the given name
+     */
+    public static ScanProfile byName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown TypeScript scan profile: " + name, e);
+        }
+    }
+
+    public boolean isExcluded(Class<?> type) {
+        if (keptTypes.contains(type)) {
+            return false;
+        }
+        for (Class<?> excludedType : excludedTypes) {
+            if (excludedType.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean includes(ConceptKind kind) {
+        return !isExcluded(kind.getType());
+    }
+
+    /**
+     * @return a module that makes the {@code ObjectMapper} skip all properties holding excluded concepts (single values, collections and maps)
+     */
+    public SimpleModule module() {
+        SimpleModule module = new SimpleModule(ScanProfile.class.getSimpleName() + "-" + name());
+        if (this != FULL) {
+            module.setDeserializerModifier(new BeanDeserializerModifier() {
+                @Override
+                public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+                    List<SettableBeanProperty> excludedProperties = new ArrayList<>();
+                    builder.getProperties().forEachRemaining(property -> {
+                        if (isExcluded(property.getType())) {
+                            excludedProperties.add(property);
+                        }
+                    });
+                    for (SettableBeanProperty property : excludedProperties) {
+                        builder.removeProperty(property.getFullName());
+                        builder.addIgnorable(property.getName());
+                    }
+                    return builder;
+                }
+            });
+        }
+        return module;
+    }
+
+    private boolean isExcluded(JavaType type) {
+        JavaType contentType = type.isContainerType() ? type.getContentType() : type;
+        return contentType != null && isExcluded(contentType.getRawClass());
+    }
+
+}
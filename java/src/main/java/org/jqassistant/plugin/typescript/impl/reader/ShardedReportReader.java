@@ -0,0 +1,186 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.RecordMapper;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.ReportRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a directory of report shards, as written by the LCE tool with the {@code --shards} option (one report per project).
+ * <p>
+ * Shards may be JSON, Smile or newline-delimited reports (optionally gzip compressed). Up to {@code parallelism} shards are parsed concurrently,
+ * each of them streamed record by record into its own bounded queue, while all of them are mapped within the same {@link RecordMapper} on the
+ * calling thread in the order of their names. Thus, no shard is ever deserialized as a whole, and at most {@value #QUEUE_CAPACITY} records
+ * per thread are held in memory. FQNs, dependencies and exports referring to other shards are resolved after all shards have been mapped,
+ * just like for a single report.
+ * <p>
+ * A shard that cannot be read is logged and recorded on the scan (see {@link TypeScriptScanDescriptor#getFailedShards()}), so that the other shards
+ * are still part of the result. The records of a failed shard that have been read before the error are kept.
+ */
+@Slf4j
+public class ShardedReportReader {
+
+    static final int QUEUE_CAPACITY = 256;
+
+    private static final String JSON_EXTENSION = ".json";
+
+    private static final String SMILE_EXTENSION = ".smile";
+
+    private static final List<String> NDJSON_EXTENSIONS = List.of(".ndjson", ".jsonl");
+
+    private static final ReportRecord END = new ReportRecord(null, null, null);
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectMapper smileObjectMapper;
+
+    private final ScanProfile profile;
+
+    private final NdjsonReportReader recordReader;
+
+    private final int parallelism;
+
+    public ShardedReportReader(ObjectMapper objectMapper, ObjectMapper smileObjectMapper, ScanProfile profile, int parallelism) {
+        this.objectMapper = objectMapper;
+        this.smileObjectMapper = smileObjectMapper;
+        this.profile = profile;
+        this.recordReader = new NdjsonReportReader(objectMapper, profile);
+        this.parallelism = parallelism;
+    }
+
+    public TypeScriptScanDescriptor read(File directory, Scanner scanner) throws IOException {
+        long start = System.nanoTime();
+        List<File> shards = findShards(directory);
+        // newline-delimited shards may interleave the records of several projects
+        boolean ordered = shards.stream().noneMatch(shard -> isNdjson(ReportStream.stripCompressionExtension(shard.getName())));
+        RecordMapper recordMapper = new RecordMapper(scanner, ordered);
+        List<String> failedShards = new ArrayList<>();
+        ExecutorService executor = ReaderThreads.newPool(Math.min(parallelism, Math.max(shards.size(), 1)));
+        try {
+            // every pending shard has a thread of its own, so the shard being mapped is always read
+            Deque<Shard> pending = new ArrayDeque<>();
+            int next = 0;
+            while (next < shards.size() || !pending.isEmpty()) {
+                while (next < shards.size() && pending.size() < parallelism) {
+                    Shard shard = new Shard(shards.get(next++));
+                    shard.reader = executor.submit(() -> readShard(shard));
+                    pending.add(shard);
+                }
+                Shard shard = pending.poll();
+                try {
+                    ReportRecord record;
+                    while ((record = take(shard.records)) != END) {
+                        recordMapper.map(record);
+                    }
+                    // rethrows the exception reading the shard has failed with, if any
+                    ReaderThreads.await(shard.reader);
+                } catch (IOException e) {
+                    log.error("Report shard {} could not be read completely", shard.file, e);
+                    failedShards.add(shard.file.getName());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("Read {} of {} report shards of {} in {} ms", shards.size() - failedShards.size(), shards.size(), directory,
+            (System.nanoTime() - start) / 1_000_000);
+        TypeScriptScanDescriptor result = recordMapper.end();
+        if (!failedShards.isEmpty()) {
+            result.setFailedShards(failedShards.toArray(new String[0]));
+        }
+        return result;
+    }
+
+    private Void readShard(Shard shard) throws IOException {
+        String reportPath = ReportStream.stripCompressionExtension(shard.file.getName());
+        try (ReportStream stream = ReportStream.open(shard.file)) {
+            if (isNdjson(reportPath)) {
+                try (JsonParser parser = objectMapper.createParser(stream)) {
+                    recordReader.read(parser, record -> put(shard.records, record));
+                }
+            } else {
+                ObjectMapper mapper = reportPath.endsWith(SMILE_EXTENSION) ? smileObjectMapper : objectMapper;
+                try (JsonParser parser = mapper.createParser(stream)) {
+                    new StreamingReportReader(mapper, profile).read(parser, record -> put(shard.records, record));
+                }
+            }
+        } finally {
+            put(shard.records, END);
+        }
+        return null;
+    }
+
+    private static void put(BlockingQueue<ReportRecord> queue, ReportRecord record) throws InterruptedIOException {
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while handing over a report record");
+        }
+    }
+
+    private static ReportRecord take(BlockingQueue<ReportRecord> queue) throws InterruptedIOException {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a report record");
+        }
+    }
+
+    /**
+     * @return all reports contained in the directory, ordered by name
+     */
+    private static List<File> findShards(File directory) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return List.of();
+        }
+        return Arrays.stream(files)
+            .filter(File::isFile)
+            .filter(file -> {
+                String reportPath = ReportStream.stripCompressionExtension(file.getName());
+                return reportPath.endsWith(JSON_EXTENSION) || reportPath.endsWith(SMILE_EXTENSION) || isNdjson(reportPath);
+            })
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private static boolean isNdjson(String reportPath) {
+        return NDJSON_EXTENSIONS.stream().anyMatch(reportPath::endsWith);
+    }
+
+    /**
+     * A shard being read, along with the records that have been read but not yet mapped.
+     */
+    private static class Shard {
+
+        private final File file;
+
+        private final BlockingQueue<ReportRecord> records = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        private Future<Void> reader;
+
+        private Shard(File file) {
+            this.file = file;
+        }
+    }
+
+}
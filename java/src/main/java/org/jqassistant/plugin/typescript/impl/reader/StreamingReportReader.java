@@ -0,0 +1,125 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.mapper.core.ProjectMapper;
+import org.jqassistant.plugin.typescript.impl.model.ConceptCollection;
+import org.jqassistant.plugin.typescript.impl.model.ConceptKind;
+import org.jqassistant.plugin.typescript.impl.model.core.Project;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.RecordMapper;
+import org.jqassistant.plugin.typescript.impl.reader.NdjsonReportReader.ReportRecord;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a report token by token and hands every concept to the {@link ProjectMapper} (via a {@link RecordMapper}) directly after it has been deserialized.
+ * Only a single concept is held in memory at a time, instead of the whole report.
+ * As the projects of the report follow each other, every project is ended as soon as the next one begins, releasing its mapping state
+ * (modules, FQN maps, descriptors). Only the concepts resolved across projects (dependencies, exports and FQN references) are kept until the end of the report.
+ */
+public class StreamingReportReader {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final ObjectReader stringListReader;
+
+    private final ObjectReader conceptCollectionReader;
+
+    private final Map<ConceptKind, ObjectReader> conceptReaders = new EnumMap<>(ConceptKind.class);
+
+    /**
+     * @param objectMapper mapper configured with the module of the given profile
+     * @param profile concepts of kinds not included in the profile are skipped
+     */
+    public StreamingReportReader(ObjectMapper objectMapper, ScanProfile profile) {
+        this.stringListReader = objectMapper.readerFor(STRING_LIST);
+        this.conceptCollectionReader = objectMapper.readerFor(ConceptCollection.class);
+        for (ConceptKind kind : ConceptKind.values()) {
+            if (profile.includes(kind)) {
+                conceptReaders.put(kind, objectMapper.readerFor(kind.getType()));
+            }
+        }
+    }
+
+    public TypeScriptScanDescriptor read(JsonParser parser, Scanner scanner) throws IOException {
+        RecordMapper recordMapper = new RecordMapper(scanner, true);
+        read(parser, recordMapper::map);
+        return recordMapper.end();
+    }
+
+    /**
+     * Reads the report and hands a {@code project} record for every project to the sink, followed by a record for each of its concepts.
+     * The project of a record may still be completed (i.e. its sub-project paths may be set) after the record has been handed over.
+     */
+    public void read(JsonParser parser, RecordSink sink) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected the report to be an array of projects");
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            readProject(parser, sink);
+        }
+    }
+
+    private void readProject(JsonParser parser, RecordSink sink) throws IOException {
+        Project project = new Project();
+        boolean started = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "rootPath":
+                    project.setRootPath(parser.getValueAsString());
+                    break;
+                case "configPath":
+                    project.setConfigPath(parser.getValueAsString());
+                    break;
+                case "subProjectPaths":
+                    project.setSubProjectPaths(stringListReader.readValue(parser));
+                    break;
+                case "sourceFilePaths":
+                    project.setSourceFilePaths(stringListReader.readValue(parser));
+                    break;
+                case "concepts":
+                    if (project.getRootPath() != null && project.getConfigPath() != null) {
+                        sink.accept(new ReportRecord(NdjsonReportReader.PROJECT_RECORD, project.getConfigPath(), project));
+                        started = true;
+                        readConcepts(parser, project.getConfigPath(), sink);
+                    } else {
+                        // the paths are needed to resolve the modules, so the concepts have to be kept until they are known
+                        project.setConcepts(conceptCollectionReader.readValue(parser));
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (!started) {
+            sink.accept(new ReportRecord(NdjsonReportReader.PROJECT_RECORD, project.getConfigPath(), project));
+        }
+    }
+
+    private void readConcepts(JsonParser parser, String configPath, RecordSink sink) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            ConceptKind kind = ConceptKind.byId(parser.getCurrentName());
+            parser.nextToken();
+            ObjectReader conceptReader = kind != null ? conceptReaders.get(kind) : null;
+            if (conceptReader == null) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                sink.accept(new ReportRecord(kind.getId(), configPath, conceptReader.readValue(parser)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package org.jqassistant.plugin.typescript.impl.reader;
+
+/**
+ * Bounded table of canonical string instances.
+ * Each string is stored in the slot given by its hash, an existing entry in that slot is replaced.
+ * This way the memory footprint stays fixed, while the strings that recur throughout a report (FQNs, paths) are mostly shared.
+ * <p>
+ * Concurrent use is safe: a lost update only results in a string not being shared.
+ */
+public class StringPool {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final String[] table;
+
+    private final int mask;
+
+    public StringPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity maximum number of pooled strings, rounded up to the next power of two
+     */
+    public StringPool(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int slot = spread(value.hashCode()) & mask;
+        String pooled = table[slot];
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        table[slot] = value;
+        return value;
+    }
+
+    /**
+     * Returns the pooled string for the given characters. A new string is only created if it is not pooled yet.
+     */
+    public String intern(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = spread(hash) & mask;
+        String pooled = table[slot];
+        if (pooled != null && contentEquals(pooled, chars, offset, length)) {
+            return pooled;
+        }
+        String value = new String(chars, offset, length);
+        table[slot] = value;
+        return value;
+    }
+
+    private static boolean contentEquals(String value, char[] chars, int offset, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
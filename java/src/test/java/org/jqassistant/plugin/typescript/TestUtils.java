@@ -1,12 +1,25 @@
 package org.jqassistant.plugin.typescript;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jqassistant.plugin.typescript.api.model.core.ModuleDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.reader.ReportIndex;
+
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 public class TestUtils {
 
@@ -28,16 +41,118 @@ public class TestUtils {
      * @return File object to the modified version of the report JSON
      */
     public File getReportJson(String fileName) {
+        return getReport(fileName, "json");
+    }
+
+    /**
+     * Reads a report and replaces all cropped paths with proper absolute paths for the local system
+     * @param fileName file name of the report that should be read (without extension)
+     * @param extension file extension of the report, e.g. "ndjson"
+     * @return File object to the modified version of the report
+     */
+    public File getReport(String fileName, String extension) {
         try {
-            URL resourceUrl = TestUtils.class.getResource("/" + fileName + ".json");
+            URL resourceUrl = TestUtils.class.getResource("/" + fileName + "." + extension);
             Path inputPath = new File(resourceUrl.toURI()).toPath();
             String content = new String(Files.readAllBytes(inputPath));
+            String originalContent = content;
             content = content.replaceAll("/java/src/test/resources/", scanResourcePath);
-            Files.write(Paths.get(scanResourcePath + fileName + ".tmp.json"), content.getBytes());
+            Files.write(Paths.get(scanResourcePath + fileName + ".tmp." + extension), content.getBytes());
+            URL indexUrl = TestUtils.class.getResource("/" + fileName + "." + extension + ReportIndex.EXTENSION);
+            if (indexUrl != null) {
+                writeIndex(new File(indexUrl.toURI()), originalContent, content, new File(scanResourcePath + fileName + ".tmp." + extension),
+                    new File(scanResourcePath + fileName + ".tmp." + extension + ReportIndex.EXTENSION));
+            }
         } catch (IOException | URISyntaxException e) {
             e.printStackTrace();
         }
-        return new File(scanResourcePath + fileName + ".tmp.json");
+        return new File(scanResourcePath + fileName + ".tmp." + extension);
+    }
+
+    /**
+     * Writes the index of a report with replaced paths, moving all sections to the new offsets of their lines.
+     * The index is written for the report as it is now, i.e. with its current size and modification time.
+     */
+    private void writeIndex(File index, String originalContent, String content, File report, File target) throws IOException {
+        List<Long> originalLineStarts = getLineStarts(originalContent);
+        List<Long> lineStarts = getLineStarts(content);
+        ObjectMapper objectMapper = new ObjectMapper();
+        ReportIndex reportIndex = objectMapper.readValue(index, ReportIndex.class);
+        List<ReportIndex.Section> sections = new ArrayList<>(reportIndex.getProjects());
+        sections.addAll(reportIndex.getModules());
+        for (ReportIndex.Section section : sections) {
+            long end = lineStarts.get(originalLineStarts.indexOf(section.getOffset() + section.getLength()));
+            section.setOffset(lineStarts.get(originalLineStarts.indexOf(section.getOffset())));
+            section.setLength(end - section.getOffset());
+            section.setProject(resolvePath(section.getProject()));
+            if (section.getModule() != null) {
+                section.setModule(resolvePath(section.getModule()));
+            }
+        }
+        reportIndex.setReportSize(report.length());
+        reportIndex.setReportLastModified(report.lastModified());
+        objectMapper.writeValue(target, reportIndex);
+    }
+
+    private static List<Long> getLineStarts(String content) {
+        List<Long> lineStarts = new ArrayList<>();
+        long offset = 0;
+        lineStarts.add(offset);
+        for (String line : content.split("\n")) {
+            offset += line.getBytes().length + 1;
+            lineStarts.add(offset);
+        }
+        return lineStarts;
+    }
+
+    /**
+     * Provides a report as it is, i.e. with the cropped paths. Needed for binary reports (e.g. Smile), whose strings can't be replaced in place.
+     * @param fileName file name of the report (without extension)
+     * @param extension file extension of the report, e.g. "smile"
+     * @return File object to the report
+     */
+    public File getUnmodifiedReport(String fileName, String extension) {
+        try {
+            return new File(TestUtils.class.getResource("/" + fileName + "." + extension).toURI());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads all reports of a shard directory and replaces all cropped paths with proper absolute paths for the local system
+     * @param directoryName name of the directory containing the report shards
+     * @return File object to the directory containing the modified versions of the reports
+     */
+    public File getReportShards(String directoryName) {
+        File targetDirectory = new File(scanResourcePath + directoryName + ".tmp");
+        try {
+            File sourceDirectory = new File(TestUtils.class.getResource("/" + directoryName).toURI());
+            Files.createDirectories(targetDirectory.toPath());
+            for (File shard : sourceDirectory.listFiles()) {
+                String content = new String(Files.readAllBytes(shard.toPath()));
+                content = content.replaceAll("/java/src/test/resources/", scanResourcePath);
+                Files.write(new File(targetDirectory, shard.getName()).toPath(), content.getBytes());
+            }
+        } catch (IOException | URISyntaxException e) {
+            e.printStackTrace();
+        }
+        return targetDirectory;
+    }
+
+    /**
+     * Same as {@link #getReport(String, String)}, but the resulting report is gzip compressed
+     * @return File object to the compressed version of the report (with the additional extension ".gz")
+     */
+    public File getCompressedReport(String fileName, String extension) {
+        File report = getReport(fileName, extension);
+        File compressedReport = new File(report.getPath() + ".gz");
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(compressedReport))) {
+            Files.copy(report.toPath(), out);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return compressedReport;
     }
 
     /**
@@ -48,4 +163,24 @@ public class TestUtils {
         return path.replace("/java/src/test/resources/", scanResourcePath);
     }
 
+    /**
+     * @return the projects of a scan by the absolute paths of their root directories
+     */
+    public static Map<String, ProjectDescriptor> getProjects(TypeScriptScanDescriptor scannedDescriptor) {
+        Map<String, ProjectDescriptor> projects = new HashMap<>();
+        scannedDescriptor.getProjects()
+            .forEach(p -> projects.put(p.getRootDirectory().getAbsoluteFileName(), p));
+        return projects;
+    }
+
+    /**
+     * @return the module of the project with the given local FQN, e.g. "./src/module1.ts"
+     */
+    public static ModuleDescriptor getModule(ProjectDescriptor project, String localFqn) {
+        return project.getModules().stream()
+            .filter(mod -> mod.getLocalFqn().equals(localFqn))
+            .findFirst()
+            .orElseThrow();
+    }
+
 }
@@ -0,0 +1,138 @@
+package org.jqassistant.plugin.typescript.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Getter;
+import lombok.Setter;
+import org.jqassistant.plugin.typescript.impl.model.core.CodeCoordinates;
+import org.jqassistant.plugin.typescript.impl.model.core.VariableDeclaration;
+import org.jqassistant.plugin.typescript.impl.reader.DiscriminatorDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the allocation per declaration while deserializing, by means of the GC profiler ({@code gc.alloc.rate.norm} is per declaration).
+ * <p>
+ * {@link #boxedCoordinates()} deserializes the coordinates into the former layout of {@link CodeCoordinates} (four boxed {@code Integer}s),
+ * {@link #packedCoordinates()} into the current one. Lines and columns beyond the range of the {@code Integer} cache are used, as in real code bases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DeclarationAllocationBenchmark {
+
+    private static final int DECLARATIONS = 10_000;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] coordinates;
+
+    private byte[] declarations;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.registerModule(DiscriminatorDeserializer.module());
+
+        ArrayNode coordinatesArray = objectMapper.createArrayNode();
+        ArrayNode declarationsArray = objectMapper.createArrayNode();
+        for (int i = 0; i < DECLARATIONS; i++) {
+            ObjectNode coordinatesNode = createCoordinates(i);
+            coordinatesArray.add(coordinatesNode);
+            declarationsArray.add(createDeclaration(i, coordinatesNode));
+        }
+        coordinates = objectMapper.writeValueAsBytes(coordinatesArray);
+        declarations = objectMapper.writeValueAsBytes(declarationsArray);
+    }
+
+    private ObjectNode createCoordinates(int i) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("fileName", "/synthetic/src/module" + (i / 100) + ".ts");
+        node.put("startLine", 200 + i);
+        node.put("startColumn", 130 + i % 50);
+        node.put("endLine", 210 + i);
+        node.put("endColumn", 140 + i % 50);
+        return node;
+    }
+
+    private JsonNode createDeclaration(int i, ObjectNode coordinatesNode) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("globalFqn", "\"/synthetic/src/module" + (i / 100) + ".ts\".variable" + i);
+        node.put("localFqn", "\"./src/module" + (i / 100) + ".ts\".variable" + i);
+        node.put("variableName", "variable" + i);
+        node.put("kind", "const");
+        ObjectNode type = node.putObject("type");
+        type.put("type", "primitive-type");
+        type.put("name", "number");
+        node.set("coordinates", coordinatesNode);
+        return node;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DECLARATIONS)
+    public BoxedCodeCoordinates[] boxedCoordinates() throws IOException {
+        return objectMapper.readValue(coordinates, BoxedCodeCoordinates[].class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DECLARATIONS)
+    public CodeCoordinates[] packedCoordinates() throws IOException {
+        return objectMapper.readValue(coordinates, CodeCoordinates[].class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DECLARATIONS)
+    public VariableDeclaration[] declarations() throws IOException {
+        return objectMapper.readValue(declarations, VariableDeclaration[].class);
+    }
+
+    /**
+     * Former layout of {@link CodeCoordinates}.
+     */
+    @Getter
+    @Setter
+    public static class BoxedCodeCoordinates {
+
+        private String fileName;
+
+        private Integer startLine;
+
+        private Integer startColumn;
+
+        private Integer endLine;
+
+        private Integer endColumn;
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(DeclarationAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+
+}
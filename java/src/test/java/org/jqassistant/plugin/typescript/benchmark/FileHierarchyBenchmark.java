@@ -0,0 +1,166 @@
+package org.jqassistant.plugin.typescript.benchmark;
+
+import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.plugin.common.api.model.DirectoryDescriptor;
+import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
+import com.buschmais.xo.api.Query;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jqassistant.plugin.typescript.api.model.core.LocalFileDescriptor;
+import org.jqassistant.plugin.typescript.impl.filesystem.LocalFileResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving the module files of a deep synthetic directory tree with the {@link LocalFileResolver}, for one project and for two projects
+ * sharing the same files. The store is replaced by an in-memory fake, so that only the work of the resolver is measured; the result is the number of
+ * {@code CONTAINS} relations, which equals the number of distinct files and directories below the file system root.
+ * <p>
+ * Run from the IDE or with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=<this class>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileHierarchyBenchmark {
+
+    private static final int FILES = 10_000;
+
+    private static final int BRANCHING = 4;
+
+    /**
+     * Number of directories between the root of the tree and the module files.
+     */
+    @Param({ "10", "40" })
+    private int depth;
+
+    private List<String> paths;
+
+    @Setup
+    public void setUp() {
+        paths = new ArrayList<>(FILES);
+        for (int i = 0; i < FILES; i++) {
+            StringBuilder path = new StringBuilder("/synthetic");
+            int index = i;
+            for (int level = 0; level < depth; level++) {
+                path.append("/d").append(index % BRANCHING);
+                index /= BRANCHING;
+            }
+            paths.add(path.append("/module").append(i).append(".ts").toString());
+        }
+    }
+
+    @Benchmark
+    public int singleProject() {
+        FakeStore store = new FakeStore();
+        resolve(store);
+        return store.countRelations();
+    }
+
+    @Benchmark
+    public int sharedProjects() {
+        FakeStore store = new FakeStore();
+        resolve(store);
+        resolve(store);
+        return store.countRelations();
+    }
+
+    private void resolve(FakeStore store) {
+        LocalFileResolver fileResolver = new LocalFileResolver(Paths.get("/synthetic"));
+        for (String path : paths) {
+            fileResolver.require(path, FileDescriptor.class, store.context);
+        }
+    }
+
+    /**
+     * Store holding the files and their parents in maps, answering the {@code MERGE} of a single file.
+     */
+    private static class FakeStore {
+
+        private final Map<String, Cache<?, ?>> caches = new HashMap<>();
+
+        private final Map<String, LocalFileDescriptor> files = new HashMap<>();
+
+        private final Map<LocalFileDescriptor, List<Object>> parents = new HashMap<>();
+
+        private final Store store = proxy(Store.class, (method, args) -> {
+            switch (method) {
+                case "getCache":
+                    return caches.computeIfAbsent((String) args[0], key -> Caffeine.newBuilder().build());
+                case "executeQuery":
+                    LocalFileDescriptor file = files.computeIfAbsent((String) ((Map<?, ?>) args[1]).get("absoluteFileName"), this::createFile);
+                    Query.Result.CompositeRowObject row = proxy(Query.Result.CompositeRowObject.class, (rowMethod, rowArgs) -> file);
+                    return proxy(Query.Result.class, (resultMethod, resultArgs) -> row);
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+
+        private final ScannerContext context = proxy(ScannerContext.class, (method, args) -> store);
+
+        private LocalFileDescriptor createFile(String absoluteFileName) {
+            List<Object> fileParents = new ArrayList<>();
+            LocalFileDescriptor descriptor = (LocalFileDescriptor) Proxy.newProxyInstance(FakeStore.class.getClassLoader(), new Class<?>[] { LocalFileDescriptor.class, DirectoryDescriptor.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getParents":
+                            return fileParents;
+                        case "getAbsoluteFileName":
+                            return absoluteFileName;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            return null;
+                    }
+                });
+            parents.put(descriptor, fileParents);
+            return descriptor;
+        }
+
+        private int countRelations() {
+            return parents.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private interface Handler {
+
+        Object invoke(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(FileHierarchyBenchmark.class.getClassLoader(), new Class<?>[] { type },
+            (proxy, method, args) -> handler.invoke(method.getName(), args)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(FileHierarchyBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+}
@@ -0,0 +1,81 @@
+package org.jqassistant.plugin.typescript.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jqassistant.plugin.typescript.impl.model.core.Project;
+import org.jqassistant.plugin.typescript.impl.reader.DiscriminatorDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the annotation-driven deserialization of the {@code Type} and {@code Value} hierarchies with the {@link DiscriminatorDeserializer},
+ * for reports with the discriminators written first (current LCE tool) and last.
+ * <p>
+ * Use {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PolymorphicDeserializationBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean discriminatorFirst;
+
+    @Param({ "200" })
+    private int copies;
+
+    private ObjectMapper annotationDrivenMapper;
+
+    private ObjectMapper discriminatorMapper;
+
+    private byte[] report;
+
+    @Setup
+    public void setUp() throws IOException {
+        annotationDrivenMapper = new ObjectMapper();
+        annotationDrivenMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        discriminatorMapper = new ObjectMapper();
+        discriminatorMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        discriminatorMapper.registerModule(DiscriminatorDeserializer.module());
+
+        JsonNode syntheticReport = SyntheticReport.create(annotationDrivenMapper, copies);
+        if (!discriminatorFirst) {
+            SyntheticReport.moveDiscriminatorsLast(syntheticReport);
+        }
+        report = annotationDrivenMapper.writeValueAsBytes(syntheticReport);
+    }
+
+    @Benchmark
+    public Project[] annotationDriven() throws IOException {
+        return annotationDrivenMapper.readValue(report, Project[].class);
+    }
+
+    @Benchmark
+    public Project[] discriminatorDispatch() throws IOException {
+        return discriminatorMapper.readValue(report, Project[].class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PolymorphicDeserializationBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -0,0 +1,87 @@
+package org.jqassistant.plugin.typescript.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.jqassistant.plugin.typescript.impl.model.core.Project;
+import org.jqassistant.plugin.typescript.impl.reader.PooledStringDeserializer;
+import org.jqassistant.plugin.typescript.impl.reader.StringPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the deserialization of a large synthetic report encoded as JSON text with the same report encoded as Smile.
+ * Both use the ObjectMapper configuration of the scanner plugin.
+ * <p>
+ * Run from the IDE or with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=<this class>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReportParsingBenchmark {
+
+    /**
+     * Number of copies of the template report, one copy is about 60 KB of JSON.
+     */
+    @Param({ "100", "1000" })
+    private int copies;
+
+    private ObjectMapper jsonMapper;
+
+    private ObjectMapper smileMapper;
+
+    private byte[] jsonReport;
+
+    private byte[] smileReport;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = createObjectMapper(new JsonFactory());
+        smileMapper = createObjectMapper(new SmileFactory());
+        JsonNode report = SyntheticReport.create(jsonMapper, copies);
+        jsonReport = jsonMapper.writeValueAsBytes(report);
+        smileReport = smileMapper.writeValueAsBytes(report);
+    }
+
+    private static ObjectMapper createObjectMapper(JsonFactory jsonFactory) {
+        ObjectMapper mapper = new ObjectMapper(jsonFactory);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerModule(PooledStringDeserializer.module(new StringPool()));
+        return mapper;
+    }
+
+    @Benchmark
+    public Project[] json() throws IOException {
+        return jsonMapper.readValue(jsonReport, Project[].class);
+    }
+
+    @Benchmark
+    public Project[] smile() throws IOException {
+        return smileMapper.readValue(smileReport, Project[].class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReportParsingBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
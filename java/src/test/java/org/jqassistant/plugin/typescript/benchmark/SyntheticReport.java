@@ -0,0 +1,92 @@
+package org.jqassistant.plugin.typescript.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Generates arbitrarily large reports for benchmarks by replicating the projects of a test report.
+ * Every copy gets its own root path, so that paths and FQNs stay unique across the copies.
+ */
+public class SyntheticReport {
+
+    public static final String TEMPLATE_REPORT = "/java-it-core-basics-sample-ts-output.json";
+
+    private static final String TEMPLATE_ROOT = "/java/src/test/resources/";
+
+    /**
+     * @param copies number of times the projects of the template report are replicated
+     * @return the report as a JSON tree, which may be serialized with any Jackson backed format
+     */
+    public static ArrayNode create(ObjectMapper objectMapper, int copies) throws IOException {
+        return create(objectMapper, 0, copies);
+    }
+
+    /**
+     * @param firstCopy number of the first copy, so that several reports with distinct paths and FQNs can be created
+     * @param copies number of times the projects of the template report are replicated
+     * @return the report as a JSON tree, which may be serialized with any Jackson backed format
+     */
+    public static ArrayNode create(ObjectMapper objectMapper, int firstCopy, int copies) throws IOException {
+        ArrayNode template;
+        try (InputStream stream = SyntheticReport.class.getResourceAsStream(TEMPLATE_REPORT)) {
+            template = (ArrayNode) objectMapper.readTree(stream);
+        }
+        ArrayNode report = objectMapper.createArrayNode();
+        for (int i = firstCopy; i < firstCopy + copies; i++) {
+            String root = "/synthetic/copy-" + i + "/";
+            for (JsonNode project : template) {
+                report.add(relocate(project.deepCopy(), root));
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Moves the discriminators of all types ({@code type}) and values ({@code valueType}) behind the other properties of their objects,
+     * as written by older versions of the LCE tool.
+     */
+    public static JsonNode moveDiscriminatorsLast(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            object.forEach(SyntheticReport::moveDiscriminatorsLast);
+            for (String discriminator : new String[] { "valueType", "type" }) {
+                JsonNode value = object.get(discriminator);
+                if (value != null && value.isTextual()) {
+                    object.remove(discriminator);
+                    object.set(discriminator, value);
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(SyntheticReport::moveDiscriminatorsLast);
+        }
+        return node;
+    }
+
+    private static JsonNode relocate(JsonNode node, String root) {
+        if (node.isTextual()) {
+            return new TextNode(node.textValue().replace(TEMPLATE_ROOT, root));
+        } else if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                field.setValue(relocate(field.getValue(), root));
+            }
+        } else if (node.isArray()) {
+            ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, relocate(array.get(i), root));
+            }
+        }
+        return node;
+    }
+
+}
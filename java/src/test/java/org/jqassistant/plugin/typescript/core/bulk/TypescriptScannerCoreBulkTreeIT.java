@@ -0,0 +1,69 @@
+package org.jqassistant.plugin.typescript.core.bulk;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.jqassistant.plugin.typescript.impl.mapper.core.BulkTreeWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for type and value trees written in bulk, which have to be the same as the ones mapped node by node.
+ */
+public class TypescriptScannerCoreBulkTreeIT extends AbstractPluginIT {
+
+    private static final String KIND = "head([label IN labels(%1$s) WHERE NOT label IN ['TS', 'Type', 'Value']]) + size(labels(%1$s)) + ' ' + " +
+        "coalesce(toString(%1$s.name), '') + ' ' + coalesce(toString(%1$s.value), '') + ' ' + coalesce(%1$s.referencedGlobalFqn, '')";
+
+    private static final String NODES = "MATCH (n:TS) WHERE n:Type OR n:Value " +
+        "RETURN " + String.format(KIND, "n") + " AS node ORDER BY node";
+
+    private static final String RELATIONS = "MATCH (n:TS)-[r]->(m) WHERE n:Type OR n:Value " +
+        "RETURN " + String.format(KIND, "n") + " + ' -' + type(r) + coalesce(toString(r.index), '') + '-> ' + " + String.format(KIND, "m") + " AS relation " +
+        "ORDER BY relation";
+
+    private static final String OWNERS = "MATCH (owner)-[r]->(n:TS) WHERE (n:Type OR n:Value) AND NOT (owner:Type OR owner:Value) " +
+        "RETURN labels(owner)[-1] + ' -' + type(r) + '-> ' + " + String.format(KIND, "n") + " AS owner ORDER BY owner";
+
+    private static final String LARGEST_TREE = "MATCH (owner)-->(root:TS) WHERE (root:Type OR root:Value) AND NOT (owner:Type OR owner:Value) " +
+        "MATCH path = (root)-[*0..]->(n) WHERE all(node IN nodes(path) WHERE node:Type OR node:Value) " +
+        "WITH root, count(DISTINCT n) AS nodes RETURN max(nodes) AS nodes";
+
+    @Test
+    void testBulkTreesEqualNodeByNodeTrees() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-bulk-sample-ts-output");
+
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<String> nodes = query(NODES).getColumn("node");
+        List<String> relations = query(RELATIONS).getColumn("relation");
+        List<String> owners = query(OWNERS).getColumn("owner");
+        store.commitTransaction();
+        store.reset();
+
+        getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_BULK_TREES, "true"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(query(LARGEST_TREE).<Long>getColumn("nodes").get(0))
+            .as("the report contains a tree that is written in bulk")
+            .isGreaterThanOrEqualTo((long) BulkTreeWriter.MIN_NODES);
+        assertThat(query(NODES).<String>getColumn("node"))
+            .as("bulk trees have the same nodes as trees mapped node by node")
+            .isEqualTo(nodes);
+        assertThat(query(RELATIONS).<String>getColumn("relation"))
+            .as("bulk trees have the same relations as trees mapped node by node")
+            .isEqualTo(relations);
+        assertThat(query(OWNERS).<String>getColumn("owner"))
+            .as("bulk trees are linked to the same owners as trees mapped node by node")
+            .isEqualTo(owners);
+        store.commitTransaction();
+    }
+
+}
@@ -0,0 +1,186 @@
+package org.jqassistant.plugin.typescript.core.chunked;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for committing the transaction at a fixed interval of concepts while a report is mapped.
+ */
+public class TypescriptScannerCoreCommitIntervalIT extends AbstractPluginIT {
+
+    private static final String REFERENCES = "MATCH (:TS:Declared)-[r:REFERENCES]->() RETURN count(r) AS references";
+
+    private static final String DEPENDENCIES = "MATCH (:TS)-[r:DEPENDS_ON]->() RETURN count(r) AS dependencies";
+
+    private static final String MODULE_DECLARATIONS = "MATCH (m:TS:Module)-[:DECLARES]->(d) RETURN m.localFqn + ' ' + d.localFqn AS declaration ORDER BY declaration";
+
+    private static final String PROJECT_FILES = "MATCH (p:TS:Project)-[:HAS_ROOT|HAS_CONFIG|CONTAINS]->(f) " +
+        "RETURN coalesce(f.absoluteFileName, f.globalFqn) AS file ORDER BY file";
+
+    private static final String SCAN_PROJECTS = "MATCH (:TS:Scan)-[:CONTAINS_PROJECT]->(p:TS:Project) RETURN count(p) AS projects";
+
+    private static final String TYPE_REFERENCES = "MATCH (:TS)-[r:OF_TYPE]->(t:TS:Type) RETURN count(r) + ' ' + count(DISTINCT t) AS types";
+
+    /**
+     * Every project of the multi-project sample consists of at least three concepts.
+     */
+    private static final String COMMIT_INTERVAL = "3";
+
+    private static final int PROJECTS = 7;
+
+    /**
+     * Readers handing over the projects of a report one after the other.
+     */
+    enum OrderedReader {
+
+        STREAMED(Map.of()),
+        NOT_STREAMED(Map.of(TypescriptProjectScannerPlugin.PROPERTY_STREAMING, "false")),
+        PIPELINE(Map.of(TypescriptProjectScannerPlugin.PROPERTY_PIPELINE, "true")),
+        PARALLEL(Map.of(TypescriptProjectScannerPlugin.PROPERTY_PARALLELISM, "4"));
+
+        private final Map<String, Object> properties;
+
+        OrderedReader(Map<String, Object> properties) {
+            this.properties = properties;
+        }
+    }
+
+    @Test
+    void testCommitInterval() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<Long> references = query(REFERENCES).getColumn("references");
+        List<Long> dependencies = query(DEPENDENCIES).getColumn("dependencies");
+        store.commitTransaction();
+        store.reset();
+
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_COMMIT_INTERVAL, COMMIT_INTERVAL))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(scannedDescriptor.getProjects())
+            .as("all projects are part of the scan")
+            .hasSize(PROJECTS);
+        assertThat(scannedDescriptor.getCommits())
+            .as("the transaction is committed after every project")
+            .isEqualTo(PROJECTS);
+        assertThat(query(REFERENCES).<Long>getColumn("references"))
+            .as("references registered before a commit are resolved")
+            .isEqualTo(references);
+        assertThat(query(DEPENDENCIES).<Long>getColumn("dependencies"))
+            .as("dependencies between concepts mapped in different transactions are resolved")
+            .isEqualTo(dependencies);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testCommitAfterEveryProject() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        Map<String, String> sharedTypes = Map.of(TypescriptProjectScannerPlugin.PROPERTY_SHARED_TYPES, "true");
+
+        getScanner(sharedTypes).scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<String> declarations = query(MODULE_DECLARATIONS).getColumn("declaration");
+        List<String> projectFiles = query(PROJECT_FILES).getColumn("file");
+        List<Long> scanProjects = query(SCAN_PROJECTS).getColumn("projects");
+        List<String> typeReferences = query(TYPE_REFERENCES).getColumn("types");
+        store.commitTransaction();
+        store.reset();
+
+        getScanner(Map.of(
+            TypescriptProjectScannerPlugin.PROPERTY_SHARED_TYPES, "true",
+            TypescriptProjectScannerPlugin.PROPERTY_COMMIT_INTERVAL, "1"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(query(MODULE_DECLARATIONS).<String>getColumn("declaration"))
+            .as("declarations are attached to their modules across commits")
+            .isNotEmpty()
+            .isEqualTo(declarations);
+        assertThat(query(PROJECT_FILES).<String>getColumn("file"))
+            .as("projects are linked to their files across commits")
+            .isEqualTo(projectFiles);
+        assertThat(query(SCAN_PROJECTS).<Long>getColumn("projects"))
+            .as("projects mapped before a commit are part of the scan")
+            .isEqualTo(scanProjects);
+        assertThat(query(TYPE_REFERENCES).<String>getColumn("types"))
+            .as("shared types are referenced across commits")
+            .isEqualTo(typeReferences);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testSingleTransaction() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        TypeScriptScanDescriptor scannedDescriptor = getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(scannedDescriptor.getCommits())
+            .as("the report is mapped within a single transaction")
+            .isNull();
+        store.commitTransaction();
+    }
+
+    @ParameterizedTest
+    @EnumSource(OrderedReader.class)
+    void testCommitBetweenProjects(OrderedReader reader) {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        Map<String, Object> properties = new HashMap<>(reader.properties);
+        properties.put(TypescriptProjectScannerPlugin.PROPERTY_COMMIT_INTERVAL, COMMIT_INTERVAL);
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(properties).scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(scannedDescriptor.getCommits())
+            .as("every project is ended and committed before the next one is mapped")
+            .isEqualTo(PROJECTS);
+        assertThat(query(SCAN_PROJECTS).<Long>getColumn("projects"))
+            .as("projects mapped before a commit are part of the scan")
+            .containsExactly((long) PROJECTS);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testCommitBetweenShards() {
+        TestUtils utils = new TestUtils();
+        File directory = utils.getReportShards("java-it-core-multi-sample-ts-output-shards");
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_COMMIT_INTERVAL, COMMIT_INTERVAL))
+            .scan(directory, directory.getAbsolutePath(), TypescriptScope.PROJECT_SHARDS);
+        store.beginTransaction();
+        assertThat(scannedDescriptor.getCommits())
+            .as("the project of every shard is ended and committed before the next shard is mapped")
+            .isEqualTo(PROJECTS);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testNoCommitWhileProjectsAreInterleaved() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReport("java-it-core-multi-sample-ts-output", "ndjson");
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_COMMIT_INTERVAL, COMMIT_INTERVAL))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT_NDJSON);
+        store.beginTransaction();
+        assertThat(scannedDescriptor.getCommits())
+            .as("newline-delimited records may interleave projects, so they are only committed once all of them have been read")
+            .isEqualTo(1);
+        assertThat(scannedDescriptor.getProjects())
+            .as("all projects are part of the scan")
+            .hasSize(PROJECTS);
+        store.commitTransaction();
+    }
+
+}
@@ -0,0 +1,149 @@
+package org.jqassistant.plugin.typescript.core.dependency;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the lifting and aggregation of dependencies.
+ * <p>
+ * The dependencies created by the scanner are compared with the result of the Cypher statements that formerly lifted and aggregated them,
+ * applied to the dependencies of the report in the same store.
+ */
+public class TypescriptScannerCoreDependencyLiftingIT extends AbstractPluginIT {
+
+    private static final String DEPENDENCIES =
+        "MATCH (src:TS)-[r:DEPENDS_ON]->(trgt:TS) RETURN toString(id(src)) + ' -> ' + toString(id(trgt)) + ': ' + toString(r.cardinality) AS dependency ORDER BY dependency";
+
+    private static final String CARDINALITIES = "MATCH (:TS)-[r:DEPENDS_ON]->(:TS) RETURN r.cardinality AS cardinality ORDER BY cardinality";
+
+    private static final List<String> LEGACY_RESOLUTION = List.of(
+        "MATCH (decl:TS)-[r:DEPENDS_ON]->(trgt:TS)<-[:DECLARES|EXPORTS*]-(trgtParent:TS) " +
+        "WHERE NOT (trgtParent)-[:DECLARES*]->(decl) " +
+        "CREATE (decl)-[:DEPENDS_ON {cardinality: r.cardinality}]->(trgtParent)",
+        "MATCH (srcParent:TS)-[:DECLARES*]->(decl:TS)-[r:DEPENDS_ON]->(trgt:TS) " +
+        "WHERE NOT (srcParent)-[:DECLARES*]->(trgt) " +
+        "CREATE (srcParent)-[:DEPENDS_ON {cardinality: r.cardinality}]->(trgt)",
+        "MATCH (src:TS)-[r:DEPENDS_ON]->(trgt:TS) " +
+        "WITH src, trgt, collect(r) AS rels, sum(r.cardinality) AS new_cardinality " +
+        "WHERE size(rels) > 1 " +
+        "SET (rels[0]).cardinality = new_cardinality " +
+        "WITH src, trgt, rels, new_cardinality " +
+        "UNWIND range(1,size(rels)-1) AS idx " +
+        "DELETE rels[idx]",
+        "MATCH (src:TS)-[r:DEPENDS_ON]->(src:TS) " +
+        "DELETE r"
+    );
+
+    @Test
+    void testBasicsSample() throws IOException {
+        verifyLifting("java-it-core-basics-sample-ts-output");
+    }
+
+    @Test
+    void testMultiSample() throws IOException {
+        verifyLifting("java-it-core-multi-sample-ts-output");
+    }
+
+    @Test
+    void testSingleRelationPerPair() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        File otherFile = utils.getReportJson("java-it-core-basics-sample-ts-output");
+        getScanner().scan(otherFile, otherFile.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        store.beginTransaction();
+        assertThat(query("MATCH (src:TS)-[r:DEPENDS_ON]->(trgt:TS) WITH src, trgt, count(r) AS relations WHERE relations > 1 RETURN count(*) AS pairs")
+            .<Long>getColumn("pairs"))
+            .as("a single relation is created per pair of concepts")
+            .containsExactly(0L);
+        assertThat(query("MATCH (src:TS)-[r:DEPENDS_ON]->(src) RETURN count(r) AS selfReferences").<Long>getColumn("selfReferences"))
+            .as("no concept depends on itself")
+            .containsExactly(0L);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testRescannedReport() throws IOException {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<Long> cardinalities = query(CARDINALITIES).getColumn("cardinality");
+        store.commitTransaction();
+
+        // a copy with a trailing line break has a different content, so the same projects are mapped again
+        File copy = new File(file.getParentFile(), "rescanned-ts-output.json");
+        Files.copy(file.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        Files.write(copy.toPath(), new byte[]{'\n'}, StandardOpenOption.APPEND);
+        TypeScriptScanDescriptor rescan = getScanner().scan(copy, copy.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        store.beginTransaction();
+        assertThat(rescan.getProjects())
+            .as("the report is mapped again")
+            .hasSize(7);
+        List<Long> expected = new ArrayList<>(cardinalities);
+        expected.addAll(cardinalities);
+        expected.sort(null);
+        assertThat(query(CARDINALITIES).<Long>getColumn("cardinality"))
+            .as("the second scan adds the same dependencies without changing the cardinalities of the first one")
+            .isEqualTo(expected);
+        store.commitTransaction();
+    }
+
+    private void verifyLifting(String reportName) throws IOException {
+        File file = new TestUtils().getReportJson(reportName);
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        store.beginTransaction();
+        List<String> dependencies = query(DEPENDENCIES).getColumn("dependency");
+        assertThat(dependencies)
+            .as("dependencies are lifted")
+            .isNotEmpty();
+
+        // restore the state of the store before the dependencies were resolved: no dependencies and no exports of modules
+        store.executeQuery("MATCH (:TS)-[r:DEPENDS_ON]->(:TS) DELETE r");
+        store.executeQuery("MATCH (:TS:Module)-[r:EXPORTS]->() DELETE r");
+        store.executeQuery(
+            "UNWIND $dependencies AS dependency " +
+            "MATCH (src:TS{globalFqn: dependency.source}), (trgt:TS{globalFqn: dependency.target}) " +
+            "CREATE (src)-[:DEPENDS_ON {cardinality: dependency.cardinality}]->(trgt)",
+            Map.of("dependencies", readDependencies(file)));
+        LEGACY_RESOLUTION.forEach(statement -> store.executeQuery(statement));
+
+        assertThat(query(DEPENDENCIES).<String>getColumn("dependency"))
+            .as("lifted dependencies are the same as the ones of the former Cypher statements")
+            .isEqualTo(dependencies);
+        store.commitTransaction();
+    }
+
+    private List<Map<String, Object>> readDependencies(File file) throws IOException {
+        List<Map<String, Object>> dependencies = new ArrayList<>();
+        for (JsonNode project : new ObjectMapper().readTree(file)) {
+            for (JsonNode dependency : project.path("concepts").path("dependency")) {
+                dependencies.add(Map.of(
+                    "source", dependency.get("globalSourceFQN").asText(),
+                    "target", dependency.get("globalFqn").asText(),
+                    "cardinality", dependency.get("cardinality").asInt()));
+            }
+        }
+        return dependencies;
+    }
+
+}
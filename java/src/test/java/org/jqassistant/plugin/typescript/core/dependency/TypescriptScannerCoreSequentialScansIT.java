@@ -0,0 +1,65 @@
+package org.jqassistant.plugin.typescript.core.dependency;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.benchmark.SyntheticReport;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test and benchmark for scanning several reports one after another into the same store.
+ * <p>
+ * Each report contains distinct copies of the projects of a template report, so every scan must add the same dependencies without touching the
+ * ones of earlier scans. The mapping time of every scan is logged; the number of scans can be raised with {@code -Dtypescript.benchmark.scans=<n>}
+ * and the size of each report with {@code -Dtypescript.benchmark.copies=<n>}.
+ */
+@Slf4j
+public class TypescriptScannerCoreSequentialScansIT extends AbstractPluginIT {
+
+    private static final String DEPENDENCIES =
+        "MATCH (:TS)-[r:DEPENDS_ON]->(:TS) RETURN count(r) AS relations, sum(r.cardinality) AS cardinality";
+
+    @Test
+    void testSequentialScans() throws IOException {
+        int scans = Integer.getInteger("typescript.benchmark.scans", 5);
+        int copies = Integer.getInteger("typescript.benchmark.copies", 2);
+        ObjectMapper objectMapper = new ObjectMapper();
+        long relationsPerScan = 0;
+        long cardinalityPerScan = 0;
+        for (int scan = 0; scan < scans; scan++) {
+            File report = Files.createTempFile("typescript-sequential-scan-", ".json").toFile();
+            report.deleteOnExit();
+            objectMapper.writeValue(report, SyntheticReport.create(objectMapper, scan * copies, copies));
+            TypeScriptScanDescriptor scanDescriptor = getScanner().scan(report, report.getAbsolutePath(), TypescriptScope.PROJECT);
+
+            store.beginTransaction();
+            log.info("Scan {} of {}: mapping took {} ms", scan + 1, scans, scanDescriptor.getMappingTime());
+            List<Long> relations = query(DEPENDENCIES).getColumn("relations");
+            List<Long> cardinality = query(DEPENDENCIES).getColumn("cardinality");
+            if (scan == 0) {
+                relationsPerScan = relations.get(0);
+                cardinalityPerScan = cardinality.get(0);
+                assertThat(relationsPerScan)
+                    .as("dependencies of the first scan are created")
+                    .isPositive();
+            }
+            assertThat(relations)
+                .as("scan %d only adds its own dependency relations", scan + 1)
+                .containsExactly((scan + 1) * relationsPerScan);
+            assertThat(cardinality)
+                .as("scan %d leaves the cardinalities of earlier scans unchanged", scan + 1)
+                .containsExactly((scan + 1) * cardinalityPerScan);
+            store.commitTransaction();
+        }
+    }
+
+}
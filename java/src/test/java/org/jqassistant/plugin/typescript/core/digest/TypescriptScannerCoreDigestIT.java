@@ -0,0 +1,113 @@
+package org.jqassistant.plugin.typescript.core.digest;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for skipping the mapping of reports that have already been scanned into the store.
+ */
+public class TypescriptScannerCoreDigestIT extends AbstractPluginIT {
+
+    @Test
+    void testUnchangedReport() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        TypeScriptScanDescriptor firstDescriptor = getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        TypeScriptScanDescriptor secondDescriptor = getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        store.beginTransaction();
+        assertThat(firstDescriptor.getDigest())
+            .as("digest of the report is recorded")
+            .hasSize(64);
+        assertThat(firstDescriptor.getReportSize())
+            .as("size of the report file is recorded")
+            .isEqualTo(file.length());
+        assertThat(firstDescriptor.getReportLastModified())
+            .as("modification time of the report file is recorded")
+            .isEqualTo(file.lastModified());
+        assertThat(firstDescriptor.getMappingTime())
+            .as("mapping time of the report is recorded")
+            .isNotNull();
+        assertThat(secondDescriptor.getId())
+            .as("scan of the unchanged report is the existing one")
+            .isEqualTo(firstDescriptor.getId());
+        List<Long> projectCount = query("MATCH (p:TS:Project) RETURN count(p) AS projects").getColumn("projects");
+        assertThat(projectCount)
+            .as("projects are only mapped once")
+            .containsExactly(7L);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testRegeneratedReport() throws IOException {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        TypeScriptScanDescriptor firstDescriptor = getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        // the report is written again with the same content, e.g. by a CI build
+        File regeneratedFile = new File(file.getParentFile(), "regenerated-ts-output.json");
+        Files.copy(file.toPath(), regeneratedFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        assertThat(regeneratedFile.setLastModified(file.lastModified() + 60_000)).isTrue();
+        TypeScriptScanDescriptor secondDescriptor = getScanner().scan(regeneratedFile, regeneratedFile.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        store.beginTransaction();
+        assertThat(secondDescriptor.getId())
+            .as("the scan of the report with the same content is the existing one, regardless of its modification time")
+            .isEqualTo(firstDescriptor.getId());
+        List<Long> projectCount = query("MATCH (p:TS:Project) RETURN count(p) AS projects").getColumn("projects");
+        assertThat(projectCount)
+            .as("projects are only mapped once")
+            .containsExactly(7L);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testChangedReport() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-basics-sample-ts-output");
+        TypeScriptScanDescriptor firstDescriptor = getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        File otherFile = utils.getReport("java-it-core-multi-sample-ts-output", "ndjson");
+        TypeScriptScanDescriptor secondDescriptor = getScanner().scan(otherFile, otherFile.getAbsolutePath(), TypescriptScope.PROJECT_NDJSON);
+
+        store.beginTransaction();
+        assertThat(secondDescriptor.getDigest())
+            .as("digest of a different report differs")
+            .isNotEqualTo(firstDescriptor.getDigest());
+        assertThat(secondDescriptor.getProjects())
+            .as("a different report is mapped")
+            .hasSize(7);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testModifiedReport() throws IOException {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-basics-sample-ts-output");
+        File modifiedFile = new File(file.getParentFile(), "modified-ts-output.json");
+        Files.copy(file.toPath(), modifiedFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        TypeScriptScanDescriptor firstDescriptor = getScanner().scan(modifiedFile, modifiedFile.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        Files.copy(utils.getReportJson("java-it-core-multi-sample-ts-output").toPath(), modifiedFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        TypeScriptScanDescriptor secondDescriptor = getScanner().scan(modifiedFile, modifiedFile.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        store.beginTransaction();
+        assertThat(secondDescriptor.getDigest())
+            .as("the modified report is mapped again")
+            .isNotEqualTo(firstDescriptor.getDigest());
+        assertThat(secondDescriptor.getProjects())
+            .as("the projects of the modified report are mapped")
+            .hasSize(7);
+        store.commitTransaction();
+    }
+}
@@ -0,0 +1,60 @@
+package org.jqassistant.plugin.typescript.core.files;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for creating the files and directories of the projects in bulk.
+ */
+public class TypescriptScannerCoreBulkFilesIT extends AbstractPluginIT {
+
+    private static final String MODULE_DIRECTORIES =
+        "MATCH (d:File:Local:Directory)-[:CONTAINS]->(m:TS:Module) RETURN d.absoluteFileName + ' > ' + m.absoluteFileName AS containment ORDER BY containment";
+
+    private static final String PROJECT_FILES =
+        "MATCH (p:TS:Project)-[:HAS_ROOT|HAS_CONFIG]->(f:File:Local) RETURN f.fileName AS fileName ORDER BY fileName";
+
+    private static final String DIRECTORIES = "MATCH (d:File:Local:Directory) RETURN d.absoluteFileName AS directory ORDER BY directory";
+
+    @Test
+    void testBulkFiles() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<String> moduleDirectories = query(MODULE_DIRECTORIES).getColumn("containment");
+        List<String> projectFiles = query(PROJECT_FILES).getColumn("fileName");
+        List<String> directories = query(DIRECTORIES).getColumn("directory");
+        store.commitTransaction();
+        store.reset();
+
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_BULK_FILES, "true"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(scannedDescriptor.getProjects())
+            .as("all projects are part of the scan")
+            .hasSize(7);
+        assertThat(query(MODULE_DIRECTORIES).<String>getColumn("containment"))
+            .as("modules are contained in the same directories")
+            .isEqualTo(moduleDirectories);
+        assertThat(query(PROJECT_FILES).<String>getColumn("fileName"))
+            .as("root directories and config files of the projects have the same file names")
+            .isEqualTo(projectFiles);
+        assertThat(query(DIRECTORIES).<String>getColumn("directory"))
+            .as("all directories are created")
+            .containsAll(directories);
+        store.commitTransaction();
+    }
+
+}
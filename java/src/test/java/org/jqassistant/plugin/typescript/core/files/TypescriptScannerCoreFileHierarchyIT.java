@@ -0,0 +1,53 @@
+package org.jqassistant.plugin.typescript.core.files;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the {@code CONTAINS} relations between the files and directories of several projects and reports.
+ */
+public class TypescriptScannerCoreFileHierarchyIT extends AbstractPluginIT {
+
+    private static final String DUPLICATES =
+        "MATCH (parent:File:Local)-[r:CONTAINS]->(child:File:Local) WITH parent, child, count(r) AS relations WHERE relations > 1 RETURN count(*) AS duplicates";
+
+    private static final String PARENTS =
+        "MATCH (parent:File:Local)-[:CONTAINS]->(child:File:Local) WITH child, count(parent) AS parents WHERE parents > 1 RETURN count(child) AS files";
+
+    @Test
+    void testFileHierarchy() {
+        scanReports(Map.of());
+    }
+
+    @Test
+    void testBulkFileHierarchy() {
+        scanReports(Map.of(TypescriptProjectScannerPlugin.PROPERTY_BULK_FILES, "true"));
+    }
+
+    private void scanReports(Map<String, Object> properties) {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        getScanner(properties).scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        File otherFile = utils.getReportJson("java-it-core-basics-sample-ts-output");
+        getScanner(properties).scan(otherFile, otherFile.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        store.beginTransaction();
+        assertThat(query(DUPLICATES).<Long>getColumn("duplicates"))
+            .as("directories shared by projects and reports contain each file once")
+            .containsExactly(0L);
+        assertThat(query(PARENTS).<Long>getColumn("files"))
+            .as("each file and directory is contained in a single directory")
+            .containsExactly(0L);
+        store.commitTransaction();
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.jqassistant.plugin.typescript.core.indexes;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the indexes created before a report is scanned.
+ */
+public class TypescriptScannerCoreIndexesIT extends AbstractPluginIT {
+
+    @Test
+    void testIndexes() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-basics-sample-ts-output");
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        File otherFile = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        getScanner().scan(otherFile, otherFile.getAbsolutePath(), TypescriptScope.PROJECT);
+
+        store.beginTransaction();
+        List<String> indexes = query("SHOW INDEXES YIELD name WHERE name STARTS WITH 'typescript_' RETURN name").getColumn("name");
+        assertThat(indexes)
+            .as("indexes of the file, FQN and name lookups are created once")
+            .contains("typescript_local_absolutefilename", "typescript_ts_globalfqn", "typescript_scan_reportsize",
+                "typescript_module_localfqn", "typescript_class_localfqn", "typescript_class_name", "typescript_function_name")
+            .doesNotHaveDuplicates();
+        store.commitTransaction();
+    }
+}
@@ -0,0 +1,103 @@
+package org.jqassistant.plugin.typescript.core.lazy;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.jqassistant.plugin.typescript.impl.model.core.LazyValue;
+import org.jqassistant.plugin.typescript.impl.model.core.TypeDeclared;
+import org.jqassistant.plugin.typescript.impl.model.core.TypePrimitive;
+import org.jqassistant.plugin.typescript.impl.model.core.ValueArray;
+import org.jqassistant.plugin.typescript.impl.model.core.ValueLiteral;
+import org.jqassistant.plugin.typescript.impl.model.core.VariableDeclaration;
+import org.jqassistant.plugin.typescript.impl.reader.LazyValueDeserializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for deserializing the values of variables, enum members and decorators when they are mapped.
+ */
+public class TypescriptScannerCoreLazyValuesIT extends AbstractPluginIT {
+
+    private static final String VALUE_NODES = "MATCH (v:TS:Value) UNWIND labels(v) AS label RETURN label, count(v) AS count ORDER BY label";
+
+    private static final String VALUE_RELATIONS = "MATCH (v:TS:Value)-[r]->() RETURN type(r) AS type, count(r) AS count ORDER BY type";
+
+    @Test
+    void testLazyValues() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-basics-sample-ts-output");
+
+        // lazy values only apply to readers holding the records before they are mapped
+        getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_STREAMING, "false"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<Map<String, Object>> eagerNodes = query(VALUE_NODES).getRows();
+        List<Map<String, Object>> eagerRelations = query(VALUE_RELATIONS).getRows();
+        store.commitTransaction();
+        store.reset();
+
+        getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_STREAMING, "false", TypescriptProjectScannerPlugin.PROPERTY_LAZY_VALUES, "true"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(eagerNodes)
+            .as("report contains values")
+            .isNotEmpty();
+        assertThat(query(VALUE_NODES).getRows())
+            .as("lazily deserialized values result in the same nodes")
+            .isEqualTo(eagerNodes);
+        assertThat(query(VALUE_RELATIONS).getRows())
+            .as("lazily deserialized values result in the same relations")
+            .isEqualTo(eagerRelations);
+        store.commitTransaction();
+    }
+
+    @Test
+    void testTypeOfLazyValue() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(LazyValueDeserializer.module());
+        VariableDeclaration variable = objectMapper.readValue("{\"variableName\": \"valueArray\", \"kind\": \"let\", " +
+            "\"initValue\": {\"valueType\": \"array\", \"items\": [{\"valueType\": \"literal\", \"value\": 1}], " +
+            "\"type\": {\"type\": \"declared\", \"globalFqn\": \"Array\", \"typeArguments\": [{\"type\": \"primitive\", \"name\": \"number\"}]}}}",
+            VariableDeclaration.class);
+
+        assertThat(variable.getInitValue())
+            .as("the value is deserialized lazily")
+            .isInstanceOf(LazyValue.class);
+        LazyValue value = (LazyValue) variable.getInitValue();
+        assertThat(value.getValueType())
+            .as("the discriminator is available without materializing the value")
+            .isEqualTo("array");
+        assertThat(value.getType())
+            .as("the type is available without materializing the value (even if it follows the subtree)")
+            .isInstanceOfSatisfying(TypeDeclared.class, type -> assertThat(type.getGlobalFqn()).isEqualTo("Array"));
+        assertThat(value.materialize())
+            .as("the materialized value has the same type")
+            .isInstanceOfSatisfying(ValueArray.class, array -> {
+                assertThat(array.getItems()).hasSize(1);
+                assertThat(array.getType()).isInstanceOf(TypeDeclared.class);
+            });
+    }
+
+    @Test
+    void testShallowValue() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(LazyValueDeserializer.module());
+        VariableDeclaration variable = objectMapper.readValue("{\"variableName\": \"valueLiteral\", \"kind\": \"let\", " +
+            "\"initValue\": {\"valueType\": \"literal\", \"value\": 1, \"type\": {\"type\": \"primitive\", \"name\": \"number\"}}}",
+            VariableDeclaration.class);
+
+        assertThat(variable.getInitValue())
+            .as("values without nested values are not buffered")
+            .isInstanceOfSatisfying(ValueLiteral.class, literal -> {
+                assertThat(literal.getValue()).isEqualTo(1);
+                assertThat(literal.getType()).isInstanceOf(TypePrimitive.class);
+            });
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.jqassistant.plugin.typescript.core.ndjson;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.ModuleDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for reading only selected modules of newline-delimited reports (see {@code TypescriptScannerCoreReaderModesIT} for the reader modes).
+ * Uses the multi-project sample, so that records of several projects and cross-project references are covered.
+ */
+public class TypescriptScannerCoreNdjsonIT extends AbstractPluginIT {
+
+    @Test
+    void testModuleSelection() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReport("java-it-core-multi-sample-ts-output", "ndjson");
+        String modules = utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/project2") + ", " +
+            utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/subprojectCommon/subproject331/src/module1.ts");
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_MODULES, modules))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT_NDJSON);
+        store.beginTransaction();
+        assertScan(utils, scannedDescriptor);
+        ProjectDescriptor project1 = scannedDescriptor.getProjects().stream()
+            .filter(p -> p.getRootDirectory().getAbsoluteFileName()
+                .equals(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/project1")))
+            .findFirst()
+            .orElseThrow();
+        assertThat(project1.getModules())
+            .as("modules that have not been selected are not read")
+            .isEmpty();
+        store.commitTransaction();
+    }
+
+    @Test
+    void testStaleIndex() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReport("java-it-core-multi-sample-ts-output", "ndjson");
+        // e.g. the report has been written again, but not its index
+        assertThat(file.setLastModified(file.lastModified() - 60_000)).isTrue();
+        String modules = utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/project2");
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_MODULES, modules))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT_NDJSON);
+        store.beginTransaction();
+        assertScan(utils, scannedDescriptor);
+        ProjectDescriptor project1 = TestUtils.getProjects(scannedDescriptor)
+            .get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/project1"));
+        assertThat(project1.getModules())
+            .as("an index that doesn't match the report is ignored, so all modules are read")
+            .hasSize(2);
+        store.commitTransaction();
+    }
+
+    private static void assertScan(TestUtils utils, TypeScriptScanDescriptor scannedDescriptor) {
+        assertThat(scannedDescriptor.getProjects())
+            .as("all projects are part of the scan")
+            .hasSize(7);
+        Map<String, ProjectDescriptor> projects = TestUtils.getProjects(scannedDescriptor);
+
+        ProjectDescriptor project2 = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/project2"));
+        ProjectDescriptor projectCommon = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/subprojectCommon"));
+        ProjectDescriptor project331 = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/subprojectCommon/subproject331"));
+        assertThat(project2.getReferencedProjects())
+            .as("project has correct references")
+            .containsExactlyInAnyOrder(project331, projectCommon);
+
+        assertThat(project2.getModules())
+            .as("project has correct number of modules")
+            .hasSize(2);
+        ModuleDescriptor module2_1 = TestUtils.getModule(project2, "./src/module1.ts");
+        ModuleDescriptor module2_2 = TestUtils.getModule(project2, "./src/module2.ts");
+        assertThat(module2_1.getVariableDeclarations())
+            .as("module has correct number of variable declarations")
+            .hasSize(2);
+        assertThat(module2_2.getClassDeclarations())
+            .as("module has correct number of class declarations")
+            .hasSize(1);
+        assertThat(module2_2.getExportedDeclarations())
+            .as("module exports correct number of declarations")
+            .hasSize(3);
+
+        ModuleDescriptor module331_1 = TestUtils.getModule(project331, "./src/module1.ts");
+        assertThat(module2_1.getDependencies())
+            .as("cross-project dependency is resolved")
+            .anySatisfy(dep -> {
+                assertThat(dep.getDependency()).isEqualTo(module331_1);
+                assertThat(dep.getCardinality()).isEqualTo(1);
+            });
+    }
+}
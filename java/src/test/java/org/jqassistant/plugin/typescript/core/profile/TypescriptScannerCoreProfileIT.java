@@ -0,0 +1,106 @@
+package org.jqassistant.plugin.typescript.core.profile;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.ClassDeclarationDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.InterfaceDeclarationDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ModuleDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for scanning reports with the {@code architecture} scan profile.
+ */
+public class TypescriptScannerCoreProfileIT extends AbstractPluginIT {
+
+    private static final String INHERITANCE = "MATCH (:TS)-[r:EXTENDS|IMPLEMENTS]->(type:TS) " +
+        "RETURN type(r) + ' ' + type.referencedGlobalFqn AS inheritance ORDER BY inheritance";
+
+    @Test
+    void testArchitectureProfile() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-multi-sample-ts-output");
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_PROFILE, "architecture"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+
+        assertThat(scannedDescriptor.getProjects())
+            .as("all projects are part of the scan")
+            .hasSize(7);
+        Map<String, ProjectDescriptor> projects = TestUtils.getProjects(scannedDescriptor);
+
+        ProjectDescriptor project2 = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/project2"));
+        ProjectDescriptor project331 = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/subprojectCommon/subproject331"));
+
+        ModuleDescriptor module2_1 = TestUtils.getModule(project2, "./src/module1.ts");
+        assertThat(module2_1.getVariableDeclarations())
+            .as("declarations are kept")
+            .hasSize(2)
+            .allSatisfy(variable -> {
+                assertThat(variable.getType()).as("types are skipped").isNull();
+                assertThat(variable.getInitValue()).as("values are skipped").isNull();
+            });
+
+        ModuleDescriptor module331_1 = TestUtils.getModule(project331, "./src/module1.ts");
+        assertThat(module2_1.getDependencies())
+            .as("dependencies are kept")
+            .anySatisfy(dep -> {
+                assertThat(dep.getDependency()).isEqualTo(module331_1);
+                assertThat(dep.getCardinality()).isEqualTo(1);
+            });
+
+        store.commitTransaction();
+    }
+
+    @Test
+    void testArchitectureProfileKeepsInheritance() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-basics-sample-ts-output");
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<String> inheritance = query(INHERITANCE).getColumn("inheritance");
+        store.commitTransaction();
+        store.reset();
+
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_PROFILE, "architecture"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+
+        assertThat(query(INHERITANCE).<String>getColumn("inheritance"))
+            .as("the same EXTENDS and IMPLEMENTS relations are created as with the full profile")
+            .isNotEmpty()
+            .isEqualTo(inheritance);
+
+        ProjectDescriptor project = scannedDescriptor.getProjects().get(0);
+        ModuleDescriptor module = TestUtils.getModule(project, "./src/testDeclarations.ts");
+        String utilsFqn = "\"" + utils.resolvePath("/java/src/test/resources/java-it-core-basics-sample-project/src/utils.ts") + "\"";
+        ClassDeclarationDescriptor classDeclaration = module.getClassDeclarations().get(0);
+        assertThat(classDeclaration.getExtendsClass())
+            .as("extended class is kept")
+            .isNotNull()
+            .hasFieldOrPropertyWithValue("referencedGlobalFqn", utilsFqn + ".BaseClass");
+        assertThat(classDeclaration.getImplementsInterfaces())
+            .as("implemented interfaces are kept")
+            .singleElement()
+            .hasFieldOrPropertyWithValue("referencedGlobalFqn", utilsFqn + ".BaseInterface");
+        assertThat(classDeclaration.getTypeParameters())
+            .as("type parameters are skipped")
+            .isEmpty();
+        InterfaceDeclarationDescriptor interfaceDeclaration = module.getInterfaceDeclarations().get(0);
+        assertThat(interfaceDeclaration.getExtendsInterfaces())
+            .as("extended interfaces are kept")
+            .singleElement()
+            .hasFieldOrPropertyWithValue("referencedGlobalFqn", utilsFqn + ".BaseInterface");
+
+        store.commitTransaction();
+    }
+}
@@ -0,0 +1,134 @@
+package org.jqassistant.plugin.typescript.core.readers;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.ModuleDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the ways a report can be read: every reader mode has to produce the same graph as the default reader of the report format.
+ * Uses the multi-project sample, so that records of several projects and cross-project references are covered.
+ */
+public class TypescriptScannerCoreReaderModesIT extends AbstractPluginIT {
+
+    private static final String REPORT = "java-it-core-multi-sample-ts-output";
+
+    private static final String NODES = "MATCH (n:TS) UNWIND labels(n) AS label " +
+        "WITH label, count(n) AS nodes RETURN label + ': ' + toString(nodes) AS nodes ORDER BY nodes";
+
+    private static final String RELATIONS = "MATCH (:TS)-[r]->() " +
+        "WITH type(r) AS type, count(r) AS relations RETURN type + ': ' + toString(relations) AS relations ORDER BY relations";
+
+    private static final String DEPENDENCIES = "MATCH (source:TS)-[r:DEPENDS_ON]->(target:TS) " +
+        "RETURN coalesce(source.globalFqn, '') + ' -> ' + coalesce(target.globalFqn, '') + ': ' + toString(r.cardinality) AS dependency ORDER BY dependency";
+
+    enum ReaderMode {
+
+        JSON("json", TypescriptScope.PROJECT, false, Map.of()),
+        JSON_NOT_STREAMED("json", TypescriptScope.PROJECT, false, Map.of(TypescriptProjectScannerPlugin.PROPERTY_STREAMING, "false")),
+        JSON_PIPELINE("json", TypescriptScope.PROJECT, false, Map.of(TypescriptProjectScannerPlugin.PROPERTY_PIPELINE, "true")),
+        JSON_PARALLEL("json", TypescriptScope.PROJECT, false, Map.of(TypescriptProjectScannerPlugin.PROPERTY_PARALLELISM, "4")),
+        JSON_COMPRESSED("json", TypescriptScope.PROJECT, true, Map.of()),
+        // compressed reports can't be memory-mapped, so they are read sequentially
+        JSON_COMPRESSED_PARALLEL("json", TypescriptScope.PROJECT, true, Map.of(TypescriptProjectScannerPlugin.PROPERTY_PARALLELISM, "4")),
+        NDJSON("ndjson", TypescriptScope.PROJECT_NDJSON, false, Map.of()),
+        NDJSON_PIPELINE("ndjson", TypescriptScope.PROJECT_NDJSON, false, Map.of(TypescriptProjectScannerPlugin.PROPERTY_PIPELINE, "true")),
+        NDJSON_MEMORY_MAPPED("ndjson", TypescriptScope.PROJECT_NDJSON, false, Map.of(TypescriptProjectScannerPlugin.PROPERTY_PARALLELISM, "4")),
+        NDJSON_COMPRESSED("ndjson", TypescriptScope.PROJECT_NDJSON, true, Map.of()),
+        NDJSON_COMPRESSED_PARALLEL("ndjson", TypescriptScope.PROJECT_NDJSON, true, Map.of(TypescriptProjectScannerPlugin.PROPERTY_PARALLELISM, "4"));
+
+        private final String extension;
+
+        private final TypescriptScope scope;
+
+        private final boolean compressed;
+
+        private final Map<String, Object> properties;
+
+        ReaderMode(String extension, TypescriptScope scope, boolean compressed, Map<String, Object> properties) {
+            this.extension = extension;
+            this.scope = scope;
+            this.compressed = compressed;
+            this.properties = properties;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ReaderMode.class)
+    void testReaderMode(ReaderMode mode) {
+        TestUtils utils = new TestUtils();
+        File report = utils.getReport(REPORT, mode.extension);
+        TypeScriptScanDescriptor expectedDescriptor = getScanner().scan(report, report.getAbsolutePath(), mode.scope);
+        store.beginTransaction();
+        String expectedDigest = expectedDescriptor.getDigest();
+        List<String> nodes = query(NODES).getColumn("nodes");
+        List<String> relations = query(RELATIONS).getColumn("relations");
+        List<String> dependencies = query(DEPENDENCIES).getColumn("dependency");
+        store.commitTransaction();
+        store.reset();
+
+        File file = mode.compressed ? utils.getCompressedReport(REPORT, mode.extension) : utils.getReport(REPORT, mode.extension);
+        TypeScriptScanDescriptor scannedDescriptor = getScanner(mode.properties).scan(file, file.getAbsolutePath(), mode.scope);
+        store.beginTransaction();
+        assertScan(utils, scannedDescriptor);
+        assertThat(scannedDescriptor.getDigest())
+            .as("the digest is the one of the uncompressed report, regardless of how it is read")
+            .isEqualTo(expectedDigest);
+        assertThat(scannedDescriptor.getReportSize())
+            .as("the size of the scanned file is recorded")
+            .isEqualTo(file.length());
+        if (mode.compressed) {
+            assertThat(scannedDescriptor.getReportSize())
+                .as("the size of the compressed file is recorded")
+                .isLessThan(report.length());
+        }
+        assertThat(query(NODES).<String>getColumn("nodes"))
+            .as("the same nodes are created as by the default reader")
+            .isEqualTo(nodes);
+        assertThat(query(RELATIONS).<String>getColumn("relations"))
+            .as("the same relations are created as by the default reader")
+            .isEqualTo(relations);
+        assertThat(query(DEPENDENCIES).<String>getColumn("dependency"))
+            .as("the same dependencies are created as by the default reader")
+            .isEqualTo(dependencies);
+        store.commitTransaction();
+    }
+
+    private static void assertScan(TestUtils utils, TypeScriptScanDescriptor scannedDescriptor) {
+        assertThat(scannedDescriptor.getProjects())
+            .as("all projects are part of the scan")
+            .hasSize(7);
+        Map<String, ProjectDescriptor> projects = TestUtils.getProjects(scannedDescriptor);
+
+        ProjectDescriptor project2 = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/project2"));
+        ProjectDescriptor projectCommon = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/subprojectCommon"));
+        ProjectDescriptor project331 = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/subprojectCommon/subproject331"));
+        assertThat(project2.getReferencedProjects())
+            .as("project has correct references")
+            .containsExactlyInAnyOrder(project331, projectCommon);
+
+        ModuleDescriptor module2_1 = TestUtils.getModule(project2, "./src/module1.ts");
+        ModuleDescriptor module331_1 = TestUtils.getModule(project331, "./src/module1.ts");
+        assertThat(module2_1.getVariableDeclarations())
+            .as("module has correct number of variable declarations")
+            .hasSize(2);
+        assertThat(module2_1.getDependencies())
+            .as("cross-project dependency is resolved")
+            .anySatisfy(dep -> {
+                assertThat(dep.getDependency()).isEqualTo(module331_1);
+                assertThat(dep.getCardinality()).isEqualTo(1);
+            });
+    }
+
+}
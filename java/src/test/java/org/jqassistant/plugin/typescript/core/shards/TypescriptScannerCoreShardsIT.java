@@ -0,0 +1,99 @@
+package org.jqassistant.plugin.typescript.core.shards;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import com.buschmais.jqassistant.plugin.common.api.model.DirectoryDescriptor;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.ModuleDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ProjectDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeScriptScanDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for scanning a directory of report shards (one report per project).
+ * Uses the multi-project sample, so that references between projects of different shards are covered.
+ */
+public class TypescriptScannerCoreShardsIT extends AbstractPluginIT {
+
+    @Test
+    void testScanner() {
+        TestUtils utils = new TestUtils();
+        File directory = utils.getReportShards("java-it-core-multi-sample-ts-output-shards");
+        TypeScriptScanDescriptor scannedDescriptor = getScanner().scan(directory, directory.getAbsolutePath(), TypescriptScope.PROJECT_SHARDS);
+        store.beginTransaction();
+        assertThat(scannedDescriptor.getProjects())
+            .as("all projects are part of the scan")
+            .hasSize(7);
+        Map<String, ProjectDescriptor> projects = TestUtils.getProjects(scannedDescriptor);
+
+        ProjectDescriptor project2 = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/project2"));
+        ProjectDescriptor projectCommon = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/subprojectCommon"));
+        ProjectDescriptor project331 = projects.get(utils.resolvePath("/java/src/test/resources/java-it-core-multi-sample-projects/subprojectCommon/subproject331"));
+        assertThat(project2.getReferencedProjects())
+            .as("references to projects of other shards are resolved")
+            .containsExactlyInAnyOrder(project331, projectCommon);
+
+        ModuleDescriptor module2_1 = TestUtils.getModule(project2, "./src/module1.ts");
+        ModuleDescriptor module331_1 = TestUtils.getModule(project331, "./src/module1.ts");
+        assertThat(module2_1.getDependencies())
+            .as("dependency on a module of another shard is resolved")
+            .anySatisfy(dep -> {
+                assertThat(dep.getDependency()).isEqualTo(module331_1);
+                assertThat(dep.getCardinality()).isEqualTo(1);
+            });
+        store.commitTransaction();
+    }
+
+    @Test
+    void testDirectoryScanner() {
+        TestUtils utils = new TestUtils();
+        File directory = utils.getReportShards("java-it-core-multi-sample-ts-output-shards");
+        TypeScriptScanDescriptor scannedDescriptor = getScanner().scan(directory, directory.getAbsolutePath(), TypescriptScope.PROJECT_SHARDS);
+        store.beginTransaction();
+        assertThat(scannedDescriptor)
+            .as("the scan is the directory node created by the directory scanner")
+            .isInstanceOf(DirectoryDescriptor.class);
+        assertThat(scannedDescriptor.getFileName())
+            .as("the scan has the path of the shard directory")
+            .isEqualTo(directory.getAbsolutePath());
+        List<String> shards = query("MATCH (:TS:Scan:Directory)-[:CONTAINS]->(shard:File) RETURN shard.fileName AS shard ORDER BY shard").getColumn("shard");
+        assertThat(shards)
+            .as("the shards are contained in the directory")
+            .hasSize(7)
+            .allSatisfy(shard -> assertThat(shard).endsWith(".json"));
+        assertThat(scannedDescriptor.getFailedShards())
+            .as("all shards have been read")
+            .isNull();
+        store.commitTransaction();
+    }
+
+    @Test
+    void testCorruptShard() throws IOException {
+        TestUtils utils = new TestUtils();
+        File directory = utils.getReportShards("java-it-core-multi-sample-ts-output-shards");
+        File corruptShard = new File(directory, "7-corrupt.json");
+        Files.writeString(corruptShard.toPath(), "[{\"rootPath\": \"/corrupt\", \"configPath\":");
+        try {
+            TypeScriptScanDescriptor scannedDescriptor = getScanner().scan(directory, directory.getAbsolutePath(), TypescriptScope.PROJECT_SHARDS);
+            store.beginTransaction();
+            assertThat(scannedDescriptor.getProjects())
+                .as("a corrupt shard does not affect the other shards")
+                .hasSize(7);
+            assertThat(scannedDescriptor.getFailedShards())
+                .as("the corrupt shard is recorded on the scan")
+                .containsExactly("7-corrupt.json");
+            store.commitTransaction();
+        } finally {
+            Files.delete(corruptShard.toPath());
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.jqassistant.plugin.typescript.core.sharedtypes;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for sharing a single node per literal value and type within a project.
+ */
+public class TypescriptScannerCoreSharedLiteralsIT extends AbstractPluginIT {
+
+    private static final String LITERAL_NODES = "MATCH (l:TS:Value:Literal) RETURN count(l) AS literals";
+
+    @Test
+    void testSharedLiterals() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-basics-sample-ts-output");
+
+        getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_SHARED_TYPES, "true"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<Long> literals = query(LITERAL_NODES).getColumn("literals");
+        store.commitTransaction();
+        store.reset();
+
+        getScanner(Map.of(
+            TypescriptProjectScannerPlugin.PROPERTY_SHARED_TYPES, "true",
+            TypescriptProjectScannerPlugin.PROPERTY_SHARED_LITERALS, "1000"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(query(LITERAL_NODES).<Long>getColumn("literals").get(0))
+            .as("shared literals never result in more literal nodes")
+            .isLessThanOrEqualTo(literals.get(0));
+
+        List<Long> duplicates = query("MATCH (l:TS:Value:Literal) OPTIONAL MATCH (l)-[:OF_TYPE]->(t) " +
+            "WITH l.value AS value, t, count(l) AS nodes WHERE nodes > 1 RETURN count(*) AS duplicates").getColumn("duplicates");
+        assertThat(duplicates)
+            .as("each literal value and type is a single node")
+            .containsExactly(0L);
+        store.commitTransaction();
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.jqassistant.plugin.typescript.core.sharedtypes;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.jqassistant.plugin.typescript.api.model.core.TypeDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.TypeTupleContainsDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ValueArrayContainsDescriptor;
+import org.jqassistant.plugin.typescript.api.model.core.ValueDescriptor;
+import org.jqassistant.plugin.typescript.impl.TypescriptProjectScannerPlugin;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for sharing a single node per structurally identical type within a project.
+ * <p>
+ * A shared node may have several parents, which have to be navigable from the node.
+ */
+public class TypescriptScannerCoreSharedTypesIT extends AbstractPluginIT {
+
+    private static final String TYPE_NODES = "MATCH (t:TS:Type) RETURN count(t) AS types";
+
+    @Test
+    void testSharedTypes() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-basics-sample-ts-output");
+
+        getScanner().scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<Long> types = query(TYPE_NODES).getColumn("types");
+        store.commitTransaction();
+        store.reset();
+
+        getScanner(Map.of(TypescriptProjectScannerPlugin.PROPERTY_SHARED_TYPES, "true"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<Long> sharedTypes = query(TYPE_NODES).getColumn("types");
+        assertThat(sharedTypes.get(0))
+            .as("shared types result in less type nodes")
+            .isLessThan(types.get(0));
+
+        List<Long> duplicatePrimitives = query("MATCH (t:TS:Type:Primitive) WITH t.name AS name, count(t) AS nodes WHERE nodes > 1 " +
+            "RETURN count(name) AS duplicates").getColumn("duplicates");
+        assertThat(duplicatePrimitives)
+            .as("each primitive type is a single node")
+            .containsExactly(0L);
+
+        store.commitTransaction();
+    }
+
+    @Test
+    void testSharedNodeWithSeveralParents() {
+        TestUtils utils = new TestUtils();
+        File file = utils.getReportJson("java-it-core-shared-sample-ts-output");
+
+        getScanner(Map.of(
+            TypescriptProjectScannerPlugin.PROPERTY_SHARED_TYPES, "true",
+            TypescriptProjectScannerPlugin.PROPERTY_SHARED_LITERALS, "1000"))
+            .scan(file, file.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<TypeDescriptor> strings = query("MATCH (t:TS:Type:Primitive {name: 'string'}) RETURN t").getColumn("t");
+        assertThat(strings)
+            .as("string is a single shared type node")
+            .hasSize(1);
+        TypeDescriptor string = strings.get(0);
+        assertThat(string.getParentTuples())
+            .as("the shared type is contained in both tuples")
+            .hasSize(2)
+            .extracting(TypeTupleContainsDescriptor::getIndex)
+            .containsOnly(0);
+        assertThat(string.getParentTuples())
+            .extracting(TypeTupleContainsDescriptor::getParentTuple)
+            .doesNotHaveDuplicates();
+        assertThat(string.getParentDeclaredTypes())
+            .as("the shared type is the type argument of Array")
+            .extracting(parent -> parent.getTypeDeclared().getReferencedGlobalFqn())
+            .containsExactly("Array");
+        List<TypeDescriptor> numbers = query("MATCH (t:TS:Type:Primitive {name: 'number'}) RETURN t").getColumn("t");
+        assertThat(numbers).hasSize(1);
+        TypeDescriptor number = numbers.get(0);
+        assertThat(number.getParentTuple())
+            .as("a type with a single parent is available from the single-valued accessor")
+            .isEqualTo(number.getParentTuples().get(0))
+            .extracting(TypeTupleContainsDescriptor::getIndex)
+            .isEqualTo(1);
+
+        List<ValueDescriptor> literals = query("MATCH (l:TS:Value:Literal {value: 'a'}) RETURN l").getColumn("l");
+        assertThat(literals)
+            .as("the literal is a single shared value node")
+            .hasSize(1);
+        assertThat(literals.get(0).getParentArrays())
+            .as("the shared literal is an item of all three arrays")
+            .hasSize(3)
+            .extracting(ValueArrayContainsDescriptor::getParentArray)
+            .doesNotHaveDuplicates();
+        store.commitTransaction();
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.jqassistant.plugin.typescript.core.smile;
+
+import com.buschmais.jqassistant.core.test.plugin.AbstractPluginIT;
+import org.jqassistant.plugin.typescript.TestUtils;
+import org.jqassistant.plugin.typescript.api.TypescriptScope;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for Smile encoded reports as written by the extractor: the graph has to be the same as the one of the JSON report.
+ * <p>
+ * The report contains objects with more than 1024 distinct member names (so the shared name table of the encoder is reset), back-references to
+ * names after the first 64 ones, and non-ASCII as well as long (more than 64 bytes) names.
+ */
+public class TypescriptScannerCoreSmileIT extends AbstractPluginIT {
+
+    private static final String REPORT = "java-it-core-smile-sample-ts-output";
+
+    private static final String VALUE_MEMBERS = "MATCH (v:TS:Variable)-[:INITIALIZED_WITH]->(:Value:Object)-[:HAS_MEMBER]->(m:Value:ObjectMember)-[:REFERENCES]->(l:Value:Literal) " +
+        "RETURN v.name + ' ' + m.name + ' ' + toString(l.value) AS member ORDER BY member";
+
+    private static final String TYPE_MEMBERS = "MATCH (v:TS:Variable)-[:OF_TYPE]->(:Type:Object)-[:HAS_MEMBER]->(m:Type:ObjectMember) " +
+        "RETURN v.name + ' ' + m.name AS member ORDER BY member";
+
+    private static final String NODES = "MATCH (n:TS) RETURN count(n) AS nodes";
+
+    @Test
+    void testSmileReport() {
+        TestUtils utils = new TestUtils();
+        File json = utils.getUnmodifiedReport(REPORT, "json");
+        File smile = utils.getUnmodifiedReport(REPORT, "smile");
+
+        getScanner().scan(json, json.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        List<String> valueMembers = query(VALUE_MEMBERS).getColumn("member");
+        List<String> typeMembers = query(TYPE_MEMBERS).getColumn("member");
+        List<Long> nodes = query(NODES).getColumn("nodes");
+        store.commitTransaction();
+        store.reset();
+
+        getScanner().scan(smile, smile.getAbsolutePath(), TypescriptScope.PROJECT);
+        store.beginTransaction();
+        assertThat(valueMembers)
+            .as("the report exceeds the shared name table of the encoder")
+            .hasSizeGreaterThan(1024);
+        assertThat(query(VALUE_MEMBERS).<String>getColumn("member"))
+            .as("object members (encoded as shared property names) are the same as in the JSON report")
+            .isEqualTo(valueMembers)
+            .contains("names gr\u00f6\u00dfe 1100", "names \u540d\u524d 1101", "names " + "x".repeat(100) + " 1103", "copy long_\u540d\u524d_" + "\u00df".repeat(30) + " 115");
+        assertThat(query(TYPE_MEMBERS).<String>getColumn("member"))
+            .as("type members are the same as in the JSON report")
+            .isEqualTo(typeMembers);
+        assertThat(query(NODES).<Long>getColumn("nodes"))
+            .as("the graph has the same size as the one of the JSON report")
+            .isEqualTo(nodes);
+        store.commitTransaction();
+    }
+
+}
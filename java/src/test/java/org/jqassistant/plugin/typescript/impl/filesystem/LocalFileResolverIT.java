@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -55,6 +56,29 @@ class LocalFileResolverIT extends AbstractPluginIT {
         store.commitTransaction();
     }
 
+    @Test
+    void resolveExistingRelation() {
+        store.beginTransaction();
+        ScannerContext context = getScanner().getContext();
+
+        Path project3 = Paths.get("src/test/resources/java-it-core-multi-sample-projects/project3").toAbsolutePath();
+        Path project3tsconfig = project3.resolve("tsconfig.json");
+        // relation from a previous scan into the same store, unknown to the caches of the resolver
+        store.executeQuery("MERGE (parent:File:Local{absoluteFileName: $parent}) MERGE (child:File:Local{absoluteFileName: $child}) " +
+                "MERGE (parent)-[:CONTAINS]->(child)",
+            Map.of("parent", project3.toString(), "child", project3tsconfig.toString()));
+
+        FileDescriptor project3tsconfigDescriptor = new LocalFileResolver(project3).require(project3tsconfig.toString(), FileDescriptor.class, context);
+        verifyLocalFileDescriptor(project3tsconfigDescriptor, project3tsconfig, "./tsconfig.json");
+        assertThat(project3tsconfigDescriptor.getParents())
+            .as("the existing relation is not duplicated")
+            .hasSize(1)
+            .first()
+            .hasFieldOrPropertyWithValue("absoluteFileName", project3.toString());
+
+        store.commitTransaction();
+    }
+
     private static void verifyLocalFileDescriptor(FileDescriptor fileDescriptor, Path expectedAbsolutePath, String expectedFileName) {
         assertThat(fileDescriptor.getFileName()).isEqualTo(expectedFileName);
         assertThat(fileDescriptor).isInstanceOf(LocalFileDescriptor.class);
@@ -0,0 +1,23 @@
+/* eslint-disable */
+
+type Settings = {
+    name: string;
+    size: number;
+    mode: "light" | "dark";
+    flags: [boolean, boolean];
+    nested: {
+        id: number;
+        label: string;
+        enabled: boolean;
+    };
+};
+
+let defaults = {
+    name: "default",
+    size: 1,
+    enabled: true,
+    nested: {
+        id: 2,
+        label: "nested",
+    },
+};
@@ -0,0 +1,5 @@
+/* eslint-disable */
+
+let names: Array<string> = ["a", "b"];
+let pair: [string, number] = ["a", 1];
+let flag: [string, boolean] = ["a", true];
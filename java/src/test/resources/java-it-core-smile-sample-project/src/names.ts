@@ -0,0 +1,1229 @@
+/* eslint-disable */
+
+let names = {
+    "member0000": 0,
+    "member0001": 1,
+    "member0002": 2,
+    "member0003": 3,
+    "member0004": 4,
+    "member0005": 5,
+    "member0006": 6,
+    "member0007": 7,
+    "member0008": 8,
+    "member0009": 9,
+    "member0010": 10,
+    "member0011": 11,
+    "member0012": 12,
+    "member0013": 13,
+    "member0014": 14,
+    "member0015": 15,
+    "member0016": 16,
+    "member0017": 17,
+    "member0018": 18,
+    "member0019": 19,
+    "member0020": 20,
+    "member0021": 21,
+    "member0022": 22,
+    "member0023": 23,
+    "member0024": 24,
+    "member0025": 25,
+    "member0026": 26,
+    "member0027": 27,
+    "member0028": 28,
+    "member0029": 29,
+    "member0030": 30,
+    "member0031": 31,
+    "member0032": 32,
+    "member0033": 33,
+    "member0034": 34,
+    "member0035": 35,
+    "member0036": 36,
+    "member0037": 37,
+    "member0038": 38,
+    "member0039": 39,
+    "member0040": 40,
+    "member0041": 41,
+    "member0042": 42,
+    "member0043": 43,
+    "member0044": 44,
+    "member0045": 45,
+    "member0046": 46,
+    "member0047": 47,
+    "member0048": 48,
+    "member0049": 49,
+    "member0050": 50,
+    "member0051": 51,
+    "member0052": 52,
+    "member0053": 53,
+    "member0054": 54,
+    "member0055": 55,
+    "member0056": 56,
+    "member0057": 57,
+    "member0058": 58,
+    "member0059": 59,
+    "member0060": 60,
+    "member0061": 61,
+    "member0062": 62,
+    "member0063": 63,
+    "member0064": 64,
+    "member0065": 65,
+    "member0066": 66,
+    "member0067": 67,
+    "member0068": 68,
+    "member0069": 69,
+    "member0070": 70,
+    "member0071": 71,
+    "member0072": 72,
+    "member0073": 73,
+    "member0074": 74,
+    "member0075": 75,
+    "member0076": 76,
+    "member0077": 77,
+    "member0078": 78,
+    "member0079": 79,
+    "member0080": 80,
+    "member0081": 81,
+    "member0082": 82,
+    "member0083": 83,
+    "member0084": 84,
+    "member0085": 85,
+    "member0086": 86,
+    "member0087": 87,
+    "member0088": 88,
+    "member0089": 89,
+    "member0090": 90,
+    "member0091": 91,
+    "member0092": 92,
+    "member0093": 93,
+    "member0094": 94,
+    "member0095": 95,
+    "member0096": 96,
+    "member0097": 97,
+    "member0098": 98,
+    "member0099": 99,
+    "member0100": 100,
+    "member0101": 101,
+    "member0102": 102,
+    "member0103": 103,
+    "member0104": 104,
+    "member0105": 105,
+    "member0106": 106,
+    "member0107": 107,
+    "member0108": 108,
+    "member0109": 109,
+    "member0110": 110,
+    "member0111": 111,
+    "member0112": 112,
+    "member0113": 113,
+    "member0114": 114,
+    "member0115": 115,
+    "member0116": 116,
+    "member0117": 117,
+    "member0118": 118,
+    "member0119": 119,
+    "member0120": 120,
+    "member0121": 121,
+    "member0122": 122,
+    "member0123": 123,
+    "member0124": 124,
+    "member0125": 125,
+    "member0126": 126,
+    "member0127": 127,
+    "member0128": 128,
+    "member0129": 129,
+    "member0130": 130,
+    "member0131": 131,
+    "member0132": 132,
+    "member0133": 133,
+    "member0134": 134,
+    "member0135": 135,
+    "member0136": 136,
+    "member0137": 137,
+    "member0138": 138,
+    "member0139": 139,
+    "member0140": 140,
+    "member0141": 141,
+    "member0142": 142,
+    "member0143": 143,
+    "member0144": 144,
+    "member0145": 145,
+    "member0146": 146,
+    "member0147": 147,
+    "member0148": 148,
+    "member0149": 149,
+    "member0150": 150,
+    "member0151": 151,
+    "member0152": 152,
+    "member0153": 153,
+    "member0154": 154,
+    "member0155": 155,
+    "member0156": 156,
+    "member0157": 157,
+    "member0158": 158,
+    "member0159": 159,
+    "member0160": 160,
+    "member0161": 161,
+    "member0162": 162,
+    "member0163": 163,
+    "member0164": 164,
+    "member0165": 165,
+    "member0166": 166,
+    "member0167": 167,
+    "member0168": 168,
+    "member0169": 169,
+    "member0170": 170,
+    "member0171": 171,
+    "member0172": 172,
+    "member0173": 173,
+    "member0174": 174,
+    "member0175": 175,
+    "member0176": 176,
+    "member0177": 177,
+    "member0178": 178,
+    "member0179": 179,
+    "member0180": 180,
+    "member0181": 181,
+    "member0182": 182,
+    "member0183": 183,
+    "member0184": 184,
+    "member0185": 185,
+    "member0186": 186,
+    "member0187": 187,
+    "member0188": 188,
+    "member0189": 189,
+    "member0190": 190,
+    "member0191": 191,
+    "member0192": 192,
+    "member0193": 193,
+    "member0194": 194,
+    "member0195": 195,
+    "member0196": 196,
+    "member0197": 197,
+    "member0198": 198,
+    "member0199": 199,
+    "member0200": 200,
+    "member0201": 201,
+    "member0202": 202,
+    "member0203": 203,
+    "member0204": 204,
+    "member0205": 205,
+    "member0206": 206,
+    "member0207": 207,
+    "member0208": 208,
+    "member0209": 209,
+    "member0210": 210,
+    "member0211": 211,
+    "member0212": 212,
+    "member0213": 213,
+    "member0214": 214,
+    "member0215": 215,
+    "member0216": 216,
+    "member0217": 217,
+    "member0218": 218,
+    "member0219": 219,
+    "member0220": 220,
+    "member0221": 221,
+    "member0222": 222,
+    "member0223": 223,
+    "member0224": 224,
+    "member0225": 225,
+    "member0226": 226,
+    "member0227": 227,
+    "member0228": 228,
+    "member0229": 229,
+    "member0230": 230,
+    "member0231": 231,
+    "member0232": 232,
+    "member0233": 233,
+    "member0234": 234,
+    "member0235": 235,
+    "member0236": 236,
+    "member0237": 237,
+    "member0238": 238,
+    "member0239": 239,
+    "member0240": 240,
+    "member0241": 241,
+    "member0242": 242,
+    "member0243": 243,
+    "member0244": 244,
+    "member0245": 245,
+    "member0246": 246,
+    "member0247": 247,
+    "member0248": 248,
+    "member0249": 249,
+    "member0250": 250,
+    "member0251": 251,
+    "member0252": 252,
+    "member0253": 253,
+    "member0254": 254,
+    "member0255": 255,
+    "member0256": 256,
+    "member0257": 257,
+    "member0258": 258,
+    "member0259": 259,
+    "member0260": 260,
+    "member0261": 261,
+    "member0262": 262,
+    "member0263": 263,
+    "member0264": 264,
+    "member0265": 265,
+    "member0266": 266,
+    "member0267": 267,
+    "member0268": 268,
+    "member0269": 269,
+    "member0270": 270,
+    "member0271": 271,
+    "member0272": 272,
+    "member0273": 273,
+    "member0274": 274,
+    "member0275": 275,
+    "member0276": 276,
+    "member0277": 277,
+    "member0278": 278,
+    "member0279": 279,
+    "member0280": 280,
+    "member0281": 281,
+    "member0282": 282,
+    "member0283": 283,
+    "member0284": 284,
+    "member0285": 285,
+    "member0286": 286,
+    "member0287": 287,
+    "member0288": 288,
+    "member0289": 289,
+    "member0290": 290,
+    "member0291": 291,
+    "member0292": 292,
+    "member0293": 293,
+    "member0294": 294,
+    "member0295": 295,
+    "member0296": 296,
+    "member0297": 297,
+    "member0298": 298,
+    "member0299": 299,
+    "member0300": 300,
+    "member0301": 301,
+    "member0302": 302,
+    "member0303": 303,
+    "member0304": 304,
+    "member0305": 305,
+    "member0306": 306,
+    "member0307": 307,
+    "member0308": 308,
+    "member0309": 309,
+    "member0310": 310,
+    "member0311": 311,
+    "member0312": 312,
+    "member0313": 313,
+    "member0314": 314,
+    "member0315": 315,
+    "member0316": 316,
+    "member0317": 317,
+    "member0318": 318,
+    "member0319": 319,
+    "member0320": 320,
+    "member0321": 321,
+    "member0322": 322,
+    "member0323": 323,
+    "member0324": 324,
+    "member0325": 325,
+    "member0326": 326,
+    "member0327": 327,
+    "member0328": 328,
+    "member0329": 329,
+    "member0330": 330,
+    "member0331": 331,
+    "member0332": 332,
+    "member0333": 333,
+    "member0334": 334,
+    "member0335": 335,
+    "member0336": 336,
+    "member0337": 337,
+    "member0338": 338,
+    "member0339": 339,
+    "member0340": 340,
+    "member0341": 341,
+    "member0342": 342,
+    "member0343": 343,
+    "member0344": 344,
+    "member0345": 345,
+    "member0346": 346,
+    "member0347": 347,
+    "member0348": 348,
+    "member0349": 349,
+    "member0350": 350,
+    "member0351": 351,
+    "member0352": 352,
+    "member0353": 353,
+    "member0354": 354,
+    "member0355": 355,
+    "member0356": 356,
+    "member0357": 357,
+    "member0358": 358,
+    "member0359": 359,
+    "member0360": 360,
+    "member0361": 361,
+    "member0362": 362,
+    "member0363": 363,
+    "member0364": 364,
+    "member0365": 365,
+    "member0366": 366,
+    "member0367": 367,
+    "member0368": 368,
+    "member0369": 369,
+    "member0370": 370,
+    "member0371": 371,
+    "member0372": 372,
+    "member0373": 373,
+    "member0374": 374,
+    "member0375": 375,
+    "member0376": 376,
+    "member0377": 377,
+    "member0378": 378,
+    "member0379": 379,
+    "member0380": 380,
+    "member0381": 381,
+    "member0382": 382,
+    "member0383": 383,
+    "member0384": 384,
+    "member0385": 385,
+    "member0386": 386,
+    "member0387": 387,
+    "member0388": 388,
+    "member0389": 389,
+    "member0390": 390,
+    "member0391": 391,
+    "member0392": 392,
+    "member0393": 393,
+    "member0394": 394,
+    "member0395": 395,
+    "member0396": 396,
+    "member0397": 397,
+    "member0398": 398,
+    "member0399": 399,
+    "member0400": 400,
+    "member0401": 401,
+    "member0402": 402,
+    "member0403": 403,
+    "member0404": 404,
+    "member0405": 405,
+    "member0406": 406,
+    "member0407": 407,
+    "member0408": 408,
+    "member0409": 409,
+    "member0410": 410,
+    "member0411": 411,
+    "member0412": 412,
+    "member0413": 413,
+    "member0414": 414,
+    "member0415": 415,
+    "member0416": 416,
+    "member0417": 417,
+    "member0418": 418,
+    "member0419": 419,
+    "member0420": 420,
+    "member0421": 421,
+    "member0422": 422,
+    "member0423": 423,
+    "member0424": 424,
+    "member0425": 425,
+    "member0426": 426,
+    "member0427": 427,
+    "member0428": 428,
+    "member0429": 429,
+    "member0430": 430,
+    "member0431": 431,
+    "member0432": 432,
+    "member0433": 433,
+    "member0434": 434,
+    "member0435": 435,
+    "member0436": 436,
+    "member0437": 437,
+    "member0438": 438,
+    "member0439": 439,
+    "member0440": 440,
+    "member0441": 441,
+    "member0442": 442,
+    "member0443": 443,
+    "member0444": 444,
+    "member0445": 445,
+    "member0446": 446,
+    "member0447": 447,
+    "member0448": 448,
+    "member0449": 449,
+    "member0450": 450,
+    "member0451": 451,
+    "member0452": 452,
+    "member0453": 453,
+    "member0454": 454,
+    "member0455": 455,
+    "member0456": 456,
+    "member0457": 457,
+    "member0458": 458,
+    "member0459": 459,
+    "member0460": 460,
+    "member0461": 461,
+    "member0462": 462,
+    "member0463": 463,
+    "member0464": 464,
+    "member0465": 465,
+    "member0466": 466,
+    "member0467": 467,
+    "member0468": 468,
+    "member0469": 469,
+    "member0470": 470,
+    "member0471": 471,
+    "member0472": 472,
+    "member0473": 473,
+    "member0474": 474,
+    "member0475": 475,
+    "member0476": 476,
+    "member0477": 477,
+    "member0478": 478,
+    "member0479": 479,
+    "member0480": 480,
+    "member0481": 481,
+    "member0482": 482,
+    "member0483": 483,
+    "member0484": 484,
+    "member0485": 485,
+    "member0486": 486,
+    "member0487": 487,
+    "member0488": 488,
+    "member0489": 489,
+    "member0490": 490,
+    "member0491": 491,
+    "member0492": 492,
+    "member0493": 493,
+    "member0494": 494,
+    "member0495": 495,
+    "member0496": 496,
+    "member0497": 497,
+    "member0498": 498,
+    "member0499": 499,
+    "member0500": 500,
+    "member0501": 501,
+    "member0502": 502,
+    "member0503": 503,
+    "member0504": 504,
+    "member0505": 505,
+    "member0506": 506,
+    "member0507": 507,
+    "member0508": 508,
+    "member0509": 509,
+    "member0510": 510,
+    "member0511": 511,
+    "member0512": 512,
+    "member0513": 513,
+    "member0514": 514,
+    "member0515": 515,
+    "member0516": 516,
+    "member0517": 517,
+    "member0518": 518,
+    "member0519": 519,
+    "member0520": 520,
+    "member0521": 521,
+    "member0522": 522,
+    "member0523": 523,
+    "member0524": 524,
+    "member0525": 525,
+    "member0526": 526,
+    "member0527": 527,
+    "member0528": 528,
+    "member0529": 529,
+    "member0530": 530,
+    "member0531": 531,
+    "member0532": 532,
+    "member0533": 533,
+    "member0534": 534,
+    "member0535": 535,
+    "member0536": 536,
+    "member0537": 537,
+    "member0538": 538,
+    "member0539": 539,
+    "member0540": 540,
+    "member0541": 541,
+    "member0542": 542,
+    "member0543": 543,
+    "member0544": 544,
+    "member0545": 545,
+    "member0546": 546,
+    "member0547": 547,
+    "member0548": 548,
+    "member0549": 549,
+    "member0550": 550,
+    "member0551": 551,
+    "member0552": 552,
+    "member0553": 553,
+    "member0554": 554,
+    "member0555": 555,
+    "member0556": 556,
+    "member0557": 557,
+    "member0558": 558,
+    "member0559": 559,
+    "member0560": 560,
+    "member0561": 561,
+    "member0562": 562,
+    "member0563": 563,
+    "member0564": 564,
+    "member0565": 565,
+    "member0566": 566,
+    "member0567": 567,
+    "member0568": 568,
+    "member0569": 569,
+    "member0570": 570,
+    "member0571": 571,
+    "member0572": 572,
+    "member0573": 573,
+    "member0574": 574,
+    "member0575": 575,
+    "member0576": 576,
+    "member0577": 577,
+    "member0578": 578,
+    "member0579": 579,
+    "member0580": 580,
+    "member0581": 581,
+    "member0582": 582,
+    "member0583": 583,
+    "member0584": 584,
+    "member0585": 585,
+    "member0586": 586,
+    "member0587": 587,
+    "member0588": 588,
+    "member0589": 589,
+    "member0590": 590,
+    "member0591": 591,
+    "member0592": 592,
+    "member0593": 593,
+    "member0594": 594,
+    "member0595": 595,
+    "member0596": 596,
+    "member0597": 597,
+    "member0598": 598,
+    "member0599": 599,
+    "member0600": 600,
+    "member0601": 601,
+    "member0602": 602,
+    "member0603": 603,
+    "member0604": 604,
+    "member0605": 605,
+    "member0606": 606,
+    "member0607": 607,
+    "member0608": 608,
+    "member0609": 609,
+    "member0610": 610,
+    "member0611": 611,
+    "member0612": 612,
+    "member0613": 613,
+    "member0614": 614,
+    "member0615": 615,
+    "member0616": 616,
+    "member0617": 617,
+    "member0618": 618,
+    "member0619": 619,
+    "member0620": 620,
+    "member0621": 621,
+    "member0622": 622,
+    "member0623": 623,
+    "member0624": 624,
+    "member0625": 625,
+    "member0626": 626,
+    "member0627": 627,
+    "member0628": 628,
+    "member0629": 629,
+    "member0630": 630,
+    "member0631": 631,
+    "member0632": 632,
+    "member0633": 633,
+    "member0634": 634,
+    "member0635": 635,
+    "member0636": 636,
+    "member0637": 637,
+    "member0638": 638,
+    "member0639": 639,
+    "member0640": 640,
+    "member0641": 641,
+    "member0642": 642,
+    "member0643": 643,
+    "member0644": 644,
+    "member0645": 645,
+    "member0646": 646,
+    "member0647": 647,
+    "member0648": 648,
+    "member0649": 649,
+    "member0650": 650,
+    "member0651": 651,
+    "member0652": 652,
+    "member0653": 653,
+    "member0654": 654,
+    "member0655": 655,
+    "member0656": 656,
+    "member0657": 657,
+    "member0658": 658,
+    "member0659": 659,
+    "member0660": 660,
+    "member0661": 661,
+    "member0662": 662,
+    "member0663": 663,
+    "member0664": 664,
+    "member0665": 665,
+    "member0666": 666,
+    "member0667": 667,
+    "member0668": 668,
+    "member0669": 669,
+    "member0670": 670,
+    "member0671": 671,
+    "member0672": 672,
+    "member0673": 673,
+    "member0674": 674,
+    "member0675": 675,
+    "member0676": 676,
+    "member0677": 677,
+    "member0678": 678,
+    "member0679": 679,
+    "member0680": 680,
+    "member0681": 681,
+    "member0682": 682,
+    "member0683": 683,
+    "member0684": 684,
+    "member0685": 685,
+    "member0686": 686,
+    "member0687": 687,
+    "member0688": 688,
+    "member0689": 689,
+    "member0690": 690,
+    "member0691": 691,
+    "member0692": 692,
+    "member0693": 693,
+    "member0694": 694,
+    "member0695": 695,
+    "member0696": 696,
+    "member0697": 697,
+    "member0698": 698,
+    "member0699": 699,
+    "member0700": 700,
+    "member0701": 701,
+    "member0702": 702,
+    "member0703": 703,
+    "member0704": 704,
+    "member0705": 705,
+    "member0706": 706,
+    "member0707": 707,
+    "member0708": 708,
+    "member0709": 709,
+    "member0710": 710,
+    "member0711": 711,
+    "member0712": 712,
+    "member0713": 713,
+    "member0714": 714,
+    "member0715": 715,
+    "member0716": 716,
+    "member0717": 717,
+    "member0718": 718,
+    "member0719": 719,
+    "member0720": 720,
+    "member0721": 721,
+    "member0722": 722,
+    "member0723": 723,
+    "member0724": 724,
+    "member0725": 725,
+    "member0726": 726,
+    "member0727": 727,
+    "member0728": 728,
+    "member0729": 729,
+    "member0730": 730,
+    "member0731": 731,
+    "member0732": 732,
+    "member0733": 733,
+    "member0734": 734,
+    "member0735": 735,
+    "member0736": 736,
+    "member0737": 737,
+    "member0738": 738,
+    "member0739": 739,
+    "member0740": 740,
+    "member0741": 741,
+    "member0742": 742,
+    "member0743": 743,
+    "member0744": 744,
+    "member0745": 745,
+    "member0746": 746,
+    "member0747": 747,
+    "member0748": 748,
+    "member0749": 749,
+    "member0750": 750,
+    "member0751": 751,
+    "member0752": 752,
+    "member0753": 753,
+    "member0754": 754,
+    "member0755": 755,
+    "member0756": 756,
+    "member0757": 757,
+    "member0758": 758,
+    "member0759": 759,
+    "member0760": 760,
+    "member0761": 761,
+    "member0762": 762,
+    "member0763": 763,
+    "member0764": 764,
+    "member0765": 765,
+    "member0766": 766,
+    "member0767": 767,
+    "member0768": 768,
+    "member0769": 769,
+    "member0770": 770,
+    "member0771": 771,
+    "member0772": 772,
+    "member0773": 773,
+    "member0774": 774,
+    "member0775": 775,
+    "member0776": 776,
+    "member0777": 777,
+    "member0778": 778,
+    "member0779": 779,
+    "member0780": 780,
+    "member0781": 781,
+    "member0782": 782,
+    "member0783": 783,
+    "member0784": 784,
+    "member0785": 785,
+    "member0786": 786,
+    "member0787": 787,
+    "member0788": 788,
+    "member0789": 789,
+    "member0790": 790,
+    "member0791": 791,
+    "member0792": 792,
+    "member0793": 793,
+    "member0794": 794,
+    "member0795": 795,
+    "member0796": 796,
+    "member0797": 797,
+    "member0798": 798,
+    "member0799": 799,
+    "member0800": 800,
+    "member0801": 801,
+    "member0802": 802,
+    "member0803": 803,
+    "member0804": 804,
+    "member0805": 805,
+    "member0806": 806,
+    "member0807": 807,
+    "member0808": 808,
+    "member0809": 809,
+    "member0810": 810,
+    "member0811": 811,
+    "member0812": 812,
+    "member0813": 813,
+    "member0814": 814,
+    "member0815": 815,
+    "member0816": 816,
+    "member0817": 817,
+    "member0818": 818,
+    "member0819": 819,
+    "member0820": 820,
+    "member0821": 821,
+    "member0822": 822,
+    "member0823": 823,
+    "member0824": 824,
+    "member0825": 825,
+    "member0826": 826,
+    "member0827": 827,
+    "member0828": 828,
+    "member0829": 829,
+    "member0830": 830,
+    "member0831": 831,
+    "member0832": 832,
+    "member0833": 833,
+    "member0834": 834,
+    "member0835": 835,
+    "member0836": 836,
+    "member0837": 837,
+    "member0838": 838,
+    "member0839": 839,
+    "member0840": 840,
+    "member0841": 841,
+    "member0842": 842,
+    "member0843": 843,
+    "member0844": 844,
+    "member0845": 845,
+    "member0846": 846,
+    "member0847": 847,
+    "member0848": 848,
+    "member0849": 849,
+    "member0850": 850,
+    "member0851": 851,
+    "member0852": 852,
+    "member0853": 853,
+    "member0854": 854,
+    "member0855": 855,
+    "member0856": 856,
+    "member0857": 857,
+    "member0858": 858,
+    "member0859": 859,
+    "member0860": 860,
+    "member0861": 861,
+    "member0862": 862,
+    "member0863": 863,
+    "member0864": 864,
+    "member0865": 865,
+    "member0866": 866,
+    "member0867": 867,
+    "member0868": 868,
+    "member0869": 869,
+    "member0870": 870,
+    "member0871": 871,
+    "member0872": 872,
+    "member0873": 873,
+    "member0874": 874,
+    "member0875": 875,
+    "member0876": 876,
+    "member0877": 877,
+    "member0878": 878,
+    "member0879": 879,
+    "member0880": 880,
+    "member0881": 881,
+    "member0882": 882,
+    "member0883": 883,
+    "member0884": 884,
+    "member0885": 885,
+    "member0886": 886,
+    "member0887": 887,
+    "member0888": 888,
+    "member0889": 889,
+    "member0890": 890,
+    "member0891": 891,
+    "member0892": 892,
+    "member0893": 893,
+    "member0894": 894,
+    "member0895": 895,
+    "member0896": 896,
+    "member0897": 897,
+    "member0898": 898,
+    "member0899": 899,
+    "member0900": 900,
+    "member0901": 901,
+    "member0902": 902,
+    "member0903": 903,
+    "member0904": 904,
+    "member0905": 905,
+    "member0906": 906,
+    "member0907": 907,
+    "member0908": 908,
+    "member0909": 909,
+    "member0910": 910,
+    "member0911": 911,
+    "member0912": 912,
+    "member0913": 913,
+    "member0914": 914,
+    "member0915": 915,
+    "member0916": 916,
+    "member0917": 917,
+    "member0918": 918,
+    "member0919": 919,
+    "member0920": 920,
+    "member0921": 921,
+    "member0922": 922,
+    "member0923": 923,
+    "member0924": 924,
+    "member0925": 925,
+    "member0926": 926,
+    "member0927": 927,
+    "member0928": 928,
+    "member0929": 929,
+    "member0930": 930,
+    "member0931": 931,
+    "member0932": 932,
+    "member0933": 933,
+    "member0934": 934,
+    "member0935": 935,
+    "member0936": 936,
+    "member0937": 937,
+    "member0938": 938,
+    "member0939": 939,
+    "member0940": 940,
+    "member0941": 941,
+    "member0942": 942,
+    "member0943": 943,
+    "member0944": 944,
+    "member0945": 945,
+    "member0946": 946,
+    "member0947": 947,
+    "member0948": 948,
+    "member0949": 949,
+    "member0950": 950,
+    "member0951": 951,
+    "member0952": 952,
+    "member0953": 953,
+    "member0954": 954,
+    "member0955": 955,
+    "member0956": 956,
+    "member0957": 957,
+    "member0958": 958,
+    "member0959": 959,
+    "member0960": 960,
+    "member0961": 961,
+    "member0962": 962,
+    "member0963": 963,
+    "member0964": 964,
+    "member0965": 965,
+    "member0966": 966,
+    "member0967": 967,
+    "member0968": 968,
+    "member0969": 969,
+    "member0970": 970,
+    "member0971": 971,
+    "member0972": 972,
+    "member0973": 973,
+    "member0974": 974,
+    "member0975": 975,
+    "member0976": 976,
+    "member0977": 977,
+    "member0978": 978,
+    "member0979": 979,
+    "member0980": 980,
+    "member0981": 981,
+    "member0982": 982,
+    "member0983": 983,
+    "member0984": 984,
+    "member0985": 985,
+    "member0986": 986,
+    "member0987": 987,
+    "member0988": 988,
+    "member0989": 989,
+    "member0990": 990,
+    "member0991": 991,
+    "member0992": 992,
+    "member0993": 993,
+    "member0994": 994,
+    "member0995": 995,
+    "member0996": 996,
+    "member0997": 997,
+    "member0998": 998,
+    "member0999": 999,
+    "member1000": 1000,
+    "member1001": 1001,
+    "member1002": 1002,
+    "member1003": 1003,
+    "member1004": 1004,
+    "member1005": 1005,
+    "member1006": 1006,
+    "member1007": 1007,
+    "member1008": 1008,
+    "member1009": 1009,
+    "member1010": 1010,
+    "member1011": 1011,
+    "member1012": 1012,
+    "member1013": 1013,
+    "member1014": 1014,
+    "member1015": 1015,
+    "member1016": 1016,
+    "member1017": 1017,
+    "member1018": 1018,
+    "member1019": 1019,
+    "member1020": 1020,
+    "member1021": 1021,
+    "member1022": 1022,
+    "member1023": 1023,
+    "member1024": 1024,
+    "member1025": 1025,
+    "member1026": 1026,
+    "member1027": 1027,
+    "member1028": 1028,
+    "member1029": 1029,
+    "member1030": 1030,
+    "member1031": 1031,
+    "member1032": 1032,
+    "member1033": 1033,
+    "member1034": 1034,
+    "member1035": 1035,
+    "member1036": 1036,
+    "member1037": 1037,
+    "member1038": 1038,
+    "member1039": 1039,
+    "member1040": 1040,
+    "member1041": 1041,
+    "member1042": 1042,
+    "member1043": 1043,
+    "member1044": 1044,
+    "member1045": 1045,
+    "member1046": 1046,
+    "member1047": 1047,
+    "member1048": 1048,
+    "member1049": 1049,
+    "member1050": 1050,
+    "member1051": 1051,
+    "member1052": 1052,
+    "member1053": 1053,
+    "member1054": 1054,
+    "member1055": 1055,
+    "member1056": 1056,
+    "member1057": 1057,
+    "member1058": 1058,
+    "member1059": 1059,
+    "member1060": 1060,
+    "member1061": 1061,
+    "member1062": 1062,
+    "member1063": 1063,
+    "member1064": 1064,
+    "member1065": 1065,
+    "member1066": 1066,
+    "member1067": 1067,
+    "member1068": 1068,
+    "member1069": 1069,
+    "member1070": 1070,
+    "member1071": 1071,
+    "member1072": 1072,
+    "member1073": 1073,
+    "member1074": 1074,
+    "member1075": 1075,
+    "member1076": 1076,
+    "member1077": 1077,
+    "member1078": 1078,
+    "member1079": 1079,
+    "member1080": 1080,
+    "member1081": 1081,
+    "member1082": 1082,
+    "member1083": 1083,
+    "member1084": 1084,
+    "member1085": 1085,
+    "member1086": 1086,
+    "member1087": 1087,
+    "member1088": 1088,
+    "member1089": 1089,
+    "member1090": 1090,
+    "member1091": 1091,
+    "member1092": 1092,
+    "member1093": 1093,
+    "member1094": 1094,
+    "member1095": 1095,
+    "member1096": 1096,
+    "member1097": 1097,
+    "member1098": 1098,
+    "member1099": 1099,
+    "größe": 1100,
+    "名前": 1101,
+    "ünïcödé": 1102,
+    "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx": 1103,
+    "ääääääääääääääääääääääääääääääääääääääää": 1104,
+    "long_名前_ßßßßßßßßßßßßßßßßßßßßßßßßßßßßßß": 1105,
+};
+
+let copy = {
+    "member0000": 0,
+    "member0010": 1,
+    "member0020": 2,
+    "member0030": 3,
+    "member0040": 4,
+    "member0050": 5,
+    "member0060": 6,
+    "member0070": 7,
+    "member0080": 8,
+    "member0090": 9,
+    "member0100": 10,
+    "member0110": 11,
+    "member0120": 12,
+    "member0130": 13,
+    "member0140": 14,
+    "member0150": 15,
+    "member0160": 16,
+    "member0170": 17,
+    "member0180": 18,
+    "member0190": 19,
+    "member0200": 20,
+    "member0210": 21,
+    "member0220": 22,
+    "member0230": 23,
+    "member0240": 24,
+    "member0250": 25,
+    "member0260": 26,
+    "member0270": 27,
+    "member0280": 28,
+    "member0290": 29,
+    "member0300": 30,
+    "member0310": 31,
+    "member0320": 32,
+    "member0330": 33,
+    "member0340": 34,
+    "member0350": 35,
+    "member0360": 36,
+    "member0370": 37,
+    "member0380": 38,
+    "member0390": 39,
+    "member0400": 40,
+    "member0410": 41,
+    "member0420": 42,
+    "member0430": 43,
+    "member0440": 44,
+    "member0450": 45,
+    "member0460": 46,
+    "member0470": 47,
+    "member0480": 48,
+    "member0490": 49,
+    "member0500": 50,
+    "member0510": 51,
+    "member0520": 52,
+    "member0530": 53,
+    "member0540": 54,
+    "member0550": 55,
+    "member0560": 56,
+    "member0570": 57,
+    "member0580": 58,
+    "member0590": 59,
+    "member0600": 60,
+    "member0610": 61,
+    "member0620": 62,
+    "member0630": 63,
+    "member0640": 64,
+    "member0650": 65,
+    "member0660": 66,
+    "member0670": 67,
+    "member0680": 68,
+    "member0690": 69,
+    "member0700": 70,
+    "member0710": 71,
+    "member0720": 72,
+    "member0730": 73,
+    "member0740": 74,
+    "member0750": 75,
+    "member0760": 76,
+    "member0770": 77,
+    "member0780": 78,
+    "member0790": 79,
+    "member0800": 80,
+    "member0810": 81,
+    "member0820": 82,
+    "member0830": 83,
+    "member0840": 84,
+    "member0850": 85,
+    "member0860": 86,
+    "member0870": 87,
+    "member0880": 88,
+    "member0890": 89,
+    "member0900": 90,
+    "member0910": 91,
+    "member0920": 92,
+    "member0930": 93,
+    "member0940": 94,
+    "member0950": 95,
+    "member0960": 96,
+    "member0970": 97,
+    "member0980": 98,
+    "member0990": 99,
+    "member1000": 100,
+    "member1010": 101,
+    "member1020": 102,
+    "member1030": 103,
+    "member1040": 104,
+    "member1050": 105,
+    "member1060": 106,
+    "member1070": 107,
+    "member1080": 108,
+    "member1090": 109,
+    "größe": 110,
+    "名前": 111,
+    "ünïcödé": 112,
+    "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx": 113,
+    "ääääääääääääääääääääääääääääääääääääääää": 114,
+    "long_名前_ßßßßßßßßßßßßßßßßßßßßßßßßßßßßßß": 115,
+};
@@ -8,17 +8,80 @@ cd typescript || exit 1
 generate_ts_output() {
   local project_name=$1
   local output_file=$2
+  local format=${3:-json}
 
   # Generate report
-  npx ts-node ./src/main.ts ../java/src/test/resources/"$project_name" -p -e react
+  npx ts-node ./src/main.ts ../java/src/test/resources/"$project_name" -p -e react -f "$format"
 
   # Copy the generated report file to the specified output location
-  cp ../java/src/test/resources/"$project_name"/.reports/jqa/ts-output.json ../java/src/test/resources/"$output_file"
+  cp ../java/src/test/resources/"$project_name"/.reports/jqa/ts-output."$format" ../java/src/test/resources/"$output_file"
 
   # Remove the current working directory from the file
   sed -i "s|${root_dir}||g" ../java/src/test/resources/"$output_file"
+
+  # The index of a newline-delimited report refers to byte offsets of lines, which have changed by removing the working directory
+  if [ "$format" = "ndjson" ]; then
+    node -e '
+      const fs = require("fs");
+      const [generated, output] = process.argv.slice(1);
+      const lineStarts = (file) => {
+        const starts = [0];
+        for (const line of fs.readFileSync(file, "utf8").split("\n").slice(0, -1)) {
+          starts.push(starts[starts.length - 1] + Buffer.byteLength(line) + 1);
+        }
+        return starts;
+      };
+      const from = lineStarts(generated), to = lineStarts(output);
+      const remap = (offset) => to[from.indexOf(offset)];
+      const strip = (path) => path && path.split(process.argv[3]).join("");
+      const index = JSON.parse(fs.readFileSync(generated + ".idx", "utf8"));
+      for (const section of [...index.projects, ...index.modules]) {
+        const end = remap(section.offset + section.length);
+        section.offset = remap(section.offset);
+        section.length = end - section.offset;
+        section.project = strip(section.project);
+        section.module = strip(section.module);
+      }
+      fs.writeFileSync(output + ".idx", JSON.stringify(index));
+    ' ../java/src/test/resources/"$project_name"/.reports/jqa/ts-output."$format" ../java/src/test/resources/"$output_file" "$root_dir"
+  fi
+}
+
+generate_ts_smile() {
+  local json_file=$1
+  local output_file=$2
+
+  # Encode the JSON report (with the working directory already removed) with the Smile encoder of the extractor,
+  # as strings can't be replaced within a Smile document
+  npx ts-node -e '
+    import * as fs from "fs";
+    import { SmileWriter } from "./src/core/utils/smile.utils";
+    const [input, output] = process.argv.slice(1);
+    fs.writeFileSync(output, SmileWriter.encode(JSON.parse(fs.readFileSync(input, "utf8"))));
+  ' ../java/src/test/resources/"$json_file" ../java/src/test/resources/"$output_file"
+}
+
+generate_ts_shards() {
+  local project_name=$1
+  local output_dir=$2
+
+  # Generate one report per project
+  npx ts-node ./src/main.ts ../java/src/test/resources/"$project_name" -p -e react -s
+
+  # Copy the generated shards to the specified output location
+  rm -rf ../java/src/test/resources/"$output_dir"
+  cp -r ../java/src/test/resources/"$project_name"/.reports/jqa/ts-output ../java/src/test/resources/"$output_dir"
+
+  # Remove the current working directory from the files
+  sed -i "s|${root_dir}||g" ../java/src/test/resources/"$output_dir"/*
 }
 
 generate_ts_output java-it-core-basics-sample-project java-it-core-basics-sample-ts-output.json
+generate_ts_output java-it-core-bulk-sample-project java-it-core-bulk-sample-ts-output.json
+generate_ts_output java-it-core-shared-sample-project java-it-core-shared-sample-ts-output.json
+generate_ts_output java-it-core-smile-sample-project java-it-core-smile-sample-ts-output.json
+generate_ts_smile java-it-core-smile-sample-ts-output.json java-it-core-smile-sample-ts-output.smile
 generate_ts_output java-it-core-multi-sample-projects java-it-core-multi-sample-ts-output.json
+generate_ts_output java-it-core-multi-sample-projects java-it-core-multi-sample-ts-output.ndjson ndjson
 generate_ts_output java-it-react-sample-project java-it-react-sample-ts-output.json
+generate_ts_shards java-it-core-multi-sample-projects java-it-core-multi-sample-ts-output-shards
@@ -8,6 +8,14 @@ export abstract class LCEType extends LCEConcept {
     protected constructor(public type: string) {
         super();
     }
+
+    /**
+     * Always writes the `type` discriminator as first property, so that the report can be read without buffering the type objects.
+     */
+    public override toJSON(): object {
+        const { type, ...properties } = super.toJSON() as Record<string, unknown>;
+        return { type, ...properties };
+    }
 }
 
 /**
@@ -15,6 +15,14 @@ export abstract class LCEValue extends LCEConcept {
     ) {
         super();
     }
+
+    /**
+     * Always writes the `valueType` discriminator as first property, so that the report can be read without buffering the value objects.
+     */
+    public override toJSON(): object {
+        const { valueType, ...properties } = super.toJSON() as Record<string, unknown>;
+        return { valueType, ...properties };
+    }
 }
 
 /**
@@ -1,5 +1,6 @@
 import { parseAndGenerateServices } from "@typescript-eslint/typescript-estree";
 import * as fs from "fs";
+import { once } from "events";
 import path from "path";
 import { TypeChecker } from "typescript";
 import { Presets, SingleBar } from "cli-progress";
@@ -13,46 +14,230 @@ import { POST_PROCESSORS } from "./features";
 import { ProjectUtils } from "./utils/project.utils";
 import { LCEProject, LCEProjectInfo } from "./project";
 import {debug, DEBUG_LOGGING} from "./utils/log.utils";
+import { SmileWriter } from "./utils/smile.utils";
+
+/**
+ * Available formats of the generated report:
+ * - `json`: a single JSON array containing all projects along with their concepts (`ts-output.json`)
+ * - `ndjson`: one JSON record per line for every project and concept (`ts-output.ndjson`)
+ * - `smile`: the same structure as `json`, but using the binary Smile encoding (`ts-output.smile`)
+ */
+export type ReportFormat = "json" | "ndjson" | "smile";
 
 export interface ExtractorOptions {
     prettyPrint?: boolean;
+    format?: ReportFormat;
+    /** write one report per project into the directory `ts-output` instead of a single report */
+    shards?: boolean;
 }
 
 export async function processProjectsAndOutputResult(scanRoot: string, options: ExtractorOptions) {
     const processedProjects = await processProjects(scanRoot);
 
-    // output JSON file
-    const json = JSON.stringify(
-        processedProjects.map((p) => p.toJSON()),
-        (_, value) => {
-            if (typeof value === "bigint") {
-                return value.toString();
-            } else if (typeof value === "object" && value instanceof Map) {
-                return Object.fromEntries(Array.from(value.entries()));
-            } else {
-                return value;
-            }
-        },
-        options.prettyPrint ? 2 : undefined,
-    );
-
     const dirPath = path.join(scanRoot, ".reports", "jqa");
-    const filePath = path.join(dirPath, "ts-output.json");
     fs.mkdir(dirPath, { recursive: true }, (errDir) => {
         if (errDir) {
             console.log("Could not create directory: " + dirPath);
+        } else if (options.shards) {
+            writeReportShards(processedProjects, path.join(dirPath, "ts-output"), options);
         } else {
-            fs.writeFile(filePath, json, (err) => {
-                if (err) {
-                    console.log("Error writing JSON: " + err);
-                } else {
-                    console.log("JSON result successfully written to " + filePath);
-                }
-            });
+            writeReport(processedProjects, path.join(dirPath, "ts-output"), options);
+        }
+    });
+}
+
+/**
+ * Writes the report in the selected format.
+ * @param basePath path of the report without file extension
+ */
+function writeReport(projects: LCEProject[], basePath: string, options: ExtractorOptions) {
+    if (options.format === "ndjson") {
+        writeNdjsonReport(projects, basePath + ".ndjson");
+    } else if (options.format === "smile") {
+        writeSmileReport(projects, basePath + ".smile");
+    } else {
+        writeJsonReport(projects, basePath + ".json", !!options.prettyPrint);
+    }
+}
+
+/**
+ * Writes a separate report (shard) for every project into the given directory, replacing all shards of previous runs.
+ * Shards are named after the index and root directory of their project, e.g. `3-subproject31.json`.
+ */
+function writeReportShards(projects: LCEProject[], dirPath: string, options: ExtractorOptions) {
+    try {
+        fs.rmSync(dirPath, { recursive: true, force: true });
+        fs.mkdirSync(dirPath);
+    } catch (err) {
+        console.log("Could not create directory: " + dirPath);
+        return;
+    }
+    projects.forEach((project, index) => {
+        const name = index + "-" + path.basename(project.projectInfo.rootPath);
+        writeReport([project], path.join(dirPath, name), options);
+    });
+}
+
+function reportValueReplacer(_: string, value: any): any {
+    if (typeof value === "bigint") {
+        return value.toString();
+    } else if (typeof value === "object" && value instanceof Map) {
+        return Object.fromEntries(Array.from(value.entries()));
+    } else {
+        return value;
+    }
+}
+
+function writeJsonReport(projects: LCEProject[], filePath: string, prettyPrint: boolean) {
+    const json = JSON.stringify(
+        projects.map((p) => p.toJSON()),
+        reportValueReplacer,
+        prettyPrint ? 2 : undefined,
+    );
+
+    fs.writeFile(filePath, json, (err) => {
+        if (err) {
+            console.log("Error writing JSON: " + err);
+        } else {
+            console.log("JSON result successfully written to " + filePath);
+        }
+    });
+}
+
+function writeSmileReport(projects: LCEProject[], filePath: string) {
+    const smile = SmileWriter.encode(projects.map((p) => p.toJSON()));
+
+    fs.writeFile(filePath, smile, (err) => {
+        if (err) {
+            console.log("Error writing Smile: " + err);
+        } else {
+            console.log("Smile result successfully written to " + filePath);
         }
     });
 }
 
+/**
+ * Index of a newline-delimited report, written next to it with the additional extension `.idx`.
+ * Every section is a contiguous byte range of the report consisting of complete lines.
+ */
+export interface NdjsonReportIndex {
+    /** size of the report in bytes, an index that doesn't match its report is ignored */
+    reportSize: number;
+    /** modification time of the report in milliseconds since the epoch, an index that doesn't match its report is ignored */
+    reportLastModified: number;
+    /** the `project` record of every project, followed by all records not belonging to a single module (e.g. external modules) */
+    projects: NdjsonReportSection[];
+    /** all records belonging to a module: the module itself, its declarations, exports and dependencies */
+    modules: NdjsonReportSection[];
+}
+
+export interface NdjsonReportSection {
+    /** config path of the project */
+    project: string;
+    /** global FQN (i.e. absolute path) of the module, only present for module sections */
+    module?: string;
+    /** byte offset of the first line of the section */
+    offset: number;
+    /** length of the section in bytes */
+    length: number;
+}
+
+/**
+ * Writes one record per line: first a `project` record for every project, followed by one record per concept of that project.
+ * Every record has the form `{"kind": <concept id>, "project": <config path>, "concept": <concept JSON>}`.
+ *
+ * The records of a project are grouped by module, and the byte range of every group is written to an index file (see {@link NdjsonReportIndex}),
+ * so that consumers may read the records of selected modules only.
+ */
+async function writeNdjsonReport(projects: LCEProject[], filePath: string) {
+    const stream = fs.createWriteStream(filePath);
+    const index: NdjsonReportIndex = { reportSize: 0, reportLastModified: 0, projects: [], modules: [] };
+    let offset = 0;
+    const writeRecord = async (kind: string, project: string, concept: object) => {
+        const line = JSON.stringify({ kind, project, concept }, reportValueReplacer) + "\n";
+        offset += Buffer.byteLength(line);
+        if (!stream.write(line)) {
+            await once(stream, "drain");
+        }
+    };
+
+    try {
+        for (const project of projects) {
+            const configPath = project.projectInfo.configPath;
+            const projectRecords: [string, object][] = [];
+            const moduleRecords: Map<string, [string, object][]> = new Map();
+            for (const [conceptId, concepts] of project.concepts.entries()) {
+                for (const concept of concepts) {
+                    const json = concept.toJSON();
+                    const module = moduleOfRecord(conceptId, json);
+                    if (module === undefined) {
+                        projectRecords.push([conceptId, json]);
+                    } else {
+                        if (!moduleRecords.has(module)) {
+                            moduleRecords.set(module, []);
+                        }
+                        moduleRecords.get(module)!.push([conceptId, json]);
+                    }
+                }
+            }
+
+            const projectOffset = offset;
+            await writeRecord("project", configPath, project.projectInfoToJSON());
+            for (const [conceptId, json] of projectRecords) {
+                await writeRecord(conceptId, configPath, json);
+            }
+            index.projects.push({ project: configPath, offset: projectOffset, length: offset - projectOffset });
+
+            for (const [module, records] of moduleRecords.entries()) {
+                const moduleOffset = offset;
+                for (const [conceptId, json] of records) {
+                    await writeRecord(conceptId, configPath, json);
+                }
+                index.modules.push({ project: configPath, module, offset: moduleOffset, length: offset - moduleOffset });
+            }
+        }
+        await new Promise<void>((resolve) => stream.end(resolve));
+        console.log("NDJSON result successfully written to " + filePath);
+        // the index is only valid for the report as it is now
+        const stats = await fs.promises.stat(filePath);
+        index.reportSize = stats.size;
+        index.reportLastModified = Math.floor(stats.mtimeMs);
+        await fs.promises.writeFile(filePath + ".idx", JSON.stringify(index));
+    } catch (err) {
+        stream.destroy();
+        console.log("Error writing NDJSON: " + err);
+    }
+}
+
+/**
+ * @return the global FQN (i.e. absolute path) of the module a report record belongs to, or `undefined` if it does not belong to a single module
+ */
+function moduleOfRecord(conceptId: string, json: any): string | undefined {
+    switch (conceptId) {
+        case "module":
+            return json.globalFqn;
+        case "export-declaration":
+            return json.sourceFilePathAbsolute;
+        case "dependency":
+            return modulePathOfFqn(json.globalSourceFQN);
+        case "react-component":
+            return modulePathOfFqn(json.globalFqn);
+        default:
+            return json.coordinates?.fileName;
+    }
+}
+
+/**
+ * @return module path of a global FQN, which is either the quoted module path followed by the declaration name, or the module path itself
+ */
+function modulePathOfFqn(fqn: string | undefined): string | undefined {
+    if (fqn === undefined || !fqn.startsWith("\"")) {
+        return fqn;
+    }
+    const end = fqn.indexOf("\"", 1);
+    return end > 0 ? fqn.substring(1, end) : fqn;
+}
+
 export async function processProjects(scanRoot: string): Promise<LCEProject[]> {
     // determine projects to scan
     const projects = await ProjectUtils.determineProjects(scanRoot);
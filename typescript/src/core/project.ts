@@ -57,13 +57,22 @@ export class LCEProject {
             jsonConcepts.set(key, value.map(i => i.toJSON()))
         })
 
+        return {
+            ...this.projectInfoToJSON(),
+            concepts: Object.fromEntries(jsonConcepts)
+        }
+    }
+
+    /**
+     * Returns the JSON representation of the project without its concepts.
+     */
+    projectInfoToJSON(): object {
         return {
             rootPath: this.projectInfo.rootPath,
             configPath: this.projectInfo.configPath,
             subProjectPaths: this.projectInfo.subProjectPaths,
             sourceFilePaths: this.projectInfo.sourceFilePaths,
             tsConfig: this.tsConfigToJSON(),
-            concepts: Object.fromEntries(jsonConcepts)
         }
     }
 
@@ -0,0 +1,193 @@
+/**
+ * Minimal encoder for the binary Smile format (https://github.com/FasterXML/smile-format-specification).
+ * The generated data model is the same as the one of `JSON.stringify`, i.e. `toJSON()` is respected and `undefined` as well as
+ * function values are omitted. Additionally, `bigint` values are written as strings and `Map`s as objects, like in the JSON report.
+ *
+ * Property names are shared (back-referenced after their first occurrence), string values are not.
+ */
+export class SmileWriter {
+    private static readonly HEADER = [0x3a, 0x29, 0x0a, 0x01];
+    private static readonly MAX_SHARED_NAMES = 1024;
+
+    private buffer = new Uint8Array(64 * 1024);
+    private length = 0;
+    private sharedNames = new Map<string, number>();
+
+    private readonly encoder = new TextEncoder();
+    private readonly doubleView = new DataView(new ArrayBuffer(8));
+
+    static encode(value: unknown): Uint8Array {
+        const writer = new SmileWriter();
+        writer.writeBytes(SmileWriter.HEADER);
+        writer.writeValue(SmileWriter.normalize(value, ""));
+        return writer.buffer.subarray(0, writer.length);
+    }
+
+    /**
+     * Applies the same conversions as `JSON.stringify` with the report value replacer would.
+     */
+    private static normalize(value: any, key: string): any {
+        if (value !== null && typeof value === "object" && typeof value.toJSON === "function") {
+            value = value.toJSON(key);
+        }
+        if (typeof value === "bigint") {
+            return value.toString();
+        } else if (value instanceof Map) {
+            return Object.fromEntries(Array.from(value.entries()));
+        }
+        return value;
+    }
+
+    private writeValue(value: any): void {
+        if (value === null || value === undefined) {
+            this.writeByte(0x21);
+        } else if (typeof value === "boolean") {
+            this.writeByte(value ? 0x23 : 0x22);
+        } else if (typeof value === "number") {
+            this.writeNumber(value);
+        } else if (typeof value === "string") {
+            this.writeString(value);
+        } else if (Array.isArray(value)) {
+            this.writeByte(0xf8);
+            for (let i = 0; i < value.length; i++) {
+                const item = SmileWriter.normalize(value[i], String(i));
+                this.writeValue(item === undefined || typeof item === "function" ? null : item);
+            }
+            this.writeByte(0xf9);
+        } else if (typeof value === "object") {
+            this.writeByte(0xfa);
+            for (const key of Object.keys(value)) {
+                const item = SmileWriter.normalize(value[key], key);
+                if (item !== undefined && typeof item !== "function" && typeof item !== "symbol") {
+                    this.writeName(key);
+                    this.writeValue(item);
+                }
+            }
+            this.writeByte(0xfb);
+        } else {
+            this.writeByte(0x21);
+        }
+    }
+
+    private writeName(name: string): void {
+        if (name.length === 0) {
+            this.writeByte(0x20);
+            return;
+        }
+        const index = this.sharedNames.get(name);
+        if (index !== undefined) {
+            if (index < 64) {
+                this.writeByte(0x40 + index);
+            } else {
+                this.writeByte(0x30 | (index >> 8));
+                this.writeByte(index & 0xff);
+            }
+            return;
+        }
+
+        const bytes = this.encoder.encode(name);
+        const ascii = bytes.length === name.length;
+        if (ascii && bytes.length <= 64) {
+            this.writeByte(0x80 + bytes.length - 1);
+            this.writeBytes(bytes);
+        } else if (!ascii && bytes.length <= 57) {
+            this.writeByte(0xc0 + bytes.length - 2);
+            this.writeBytes(bytes);
+        } else {
+            this.writeByte(0x34);
+            this.writeBytes(bytes);
+            this.writeByte(0xfc);
+        }
+
+        // the reader resets its table once it is full, so the same has to happen here
+        if (this.sharedNames.size >= SmileWriter.MAX_SHARED_NAMES) {
+            this.sharedNames.clear();
+        }
+        this.sharedNames.set(name, this.sharedNames.size);
+    }
+
+    private writeString(value: string): void {
+        if (value.length === 0) {
+            this.writeByte(0x20);
+            return;
+        }
+        const bytes = this.encoder.encode(value);
+        const ascii = bytes.length === value.length;
+        if (ascii && bytes.length <= 32) {
+            this.writeByte(0x40 + bytes.length - 1);
+            this.writeBytes(bytes);
+        } else if (ascii && bytes.length <= 64) {
+            this.writeByte(0x60 + bytes.length - 33);
+            this.writeBytes(bytes);
+        } else if (!ascii && bytes.length <= 33) {
+            this.writeByte(0x80 + bytes.length - 2);
+            this.writeBytes(bytes);
+        } else if (!ascii && bytes.length <= 64) {
+            this.writeByte(0xa0 + bytes.length - 34);
+            this.writeBytes(bytes);
+        } else {
+            this.writeByte(ascii ? 0xe0 : 0xe4);
+            this.writeBytes(bytes);
+            this.writeByte(0xfc);
+        }
+    }
+
+    private writeNumber(value: number): void {
+        if (!Number.isFinite(value)) {
+            // same as JSON.stringify
+            this.writeByte(0x21);
+        } else if (Number.isInteger(value) && value >= -16 && value <= 15) {
+            this.writeByte(0xc0 + ((value << 1) ^ (value >> 31)));
+        } else if (Number.isInteger(value) && value >= -0x80000000 && value <= 0x7fffffff) {
+            this.writeByte(0x24);
+            this.writeVInt(BigInt(((value << 1) ^ (value >> 31)) >>> 0));
+        } else if (Number.isSafeInteger(value)) {
+            const big = BigInt(value);
+            this.writeByte(0x25);
+            this.writeVInt(BigInt.asUintN(64, (big << 1n) ^ (big >> 63n)));
+        } else {
+            this.doubleView.setFloat64(0, value);
+            const bits = this.doubleView.getBigUint64(0);
+            this.writeByte(0x29);
+            // 64 bits spread over 10 bytes with 7 bits each, most significant first
+            for (let i = 9; i >= 0; i--) {
+                this.writeByte(Number((bits >> BigInt(7 * i)) & 0x7fn));
+            }
+        }
+    }
+
+    /**
+     * Writes an unsigned variable length integer: 7 bits per byte, most significant first, while the last byte holds 6 bits and has its
+     * highest bit set.
+     */
+    private writeVInt(value: bigint): void {
+        const last = 0x80 | Number(value & 0x3fn);
+        const groups: number[] = [];
+        for (let rest = value >> 6n; rest > 0n; rest >>= 7n) {
+            groups.push(Number(rest & 0x7fn));
+        }
+        for (let i = groups.length - 1; i >= 0; i--) {
+            this.writeByte(groups[i]);
+        }
+        this.writeByte(last);
+    }
+
+    private writeByte(byte: number): void {
+        this.ensureCapacity(1);
+        this.buffer[this.length++] = byte;
+    }
+
+    private writeBytes(bytes: ArrayLike<number>): void {
+        this.ensureCapacity(bytes.length);
+        this.buffer.set(bytes, this.length);
+        this.length += bytes.length;
+    }
+
+    private ensureCapacity(additional: number): void {
+        if (this.length + additional > this.buffer.length) {
+            const grown = new Uint8Array(Math.max(this.buffer.length * 2, this.length + additional));
+            grown.set(this.buffer.subarray(0, this.length));
+            this.buffer = grown;
+        }
+    }
+}
@@ -18,6 +18,8 @@ program
     .argument("[path]", "path to the root of the TypeScript project to be scanned", ".")
     .option("-e, --extension [extensions...]", "space separated list of extensions to activate (currently available: react)")
     .option("-p, --pretty", "pretty-print JSON result report")
+    .option("-f, --format <format>", "format of the result report: json (single JSON document), ndjson (one JSON record per line) or smile (binary encoded JSON document)", "json")
+    .option("-s, --shards", "write a separate report for every project into the directory .reports/jqa/ts-output")
     .option("--type-resolution-depth", "depth at which nested types are no longer resolved", "10")
     .option("-d, --debug", "print debug information");
 program.parse();
@@ -27,6 +29,12 @@ const options = program.opts();
 
 const extensions: string[] = options.extension ?? [];
 const prettyPrint = !!options.pretty;
+const format = options.format;
+const shards = !!options.shards;
+if (format !== "json" && format !== "ndjson" && format !== "smile") {
+    console.log(`Unknown report format: ${format}`);
+    process.exit(1);
+}
 setMaxTypeResolutionDepth(parseInt(options.typeResolutionDepth));
 setDebugLogging(!!options.debug);
 
@@ -40,4 +48,4 @@ if(extensions.includes("react")) {
 }
 
 // initializeReactExtractor();
-processProjectsAndOutputResult(projectRootPath, {prettyPrint});
+processProjectsAndOutputResult(projectRootPath, {prettyPrint, format, shards});